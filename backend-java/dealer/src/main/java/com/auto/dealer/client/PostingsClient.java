@@ -0,0 +1,18 @@
+package com.auto.dealer.client;
+
+import java.util.Map;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "postings-service", url = "${postings-service.url:https://postings-service.onrender.com}")
+public interface PostingsClient {
+
+    /**
+     * Drop the postings service's cached copy of a dealer profile
+     * DELETE /cache/dealer-profile/{email} (internal: authenticated by the shared X-Internal-Token)
+     */
+    @DeleteMapping(value = "/cache/dealer-profile/{email}", headers = "X-Internal-Token=${internal.api-token:}")
+    Map<String, Object> evictDealerProfile(@PathVariable("email") String email);
+}
@@ -14,6 +14,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.auto.dealer.client.PostingsClient;
 import com.auto.dealer.dto.ApiResponse;
 import com.auto.dealer.dto.BulkDealerActionDto;
 import com.auto.dealer.dto.DealerListDto;
@@ -37,6 +38,7 @@ public class DealerService {
 
     private final DealerRepository repo;
     private final DealerAuditLogRepository auditRepo;
+    private final PostingsClient postingsClient;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public ResponseEntity<ApiResponse<Dealer>> register(RegisterDealerDto dealerDto) {
@@ -132,6 +134,8 @@ public class DealerService {
             }
 
             Dealer dealer = dealerOpt.get();
+            // Postings caches the profile by email, so both the old and the new key must go on a change
+            String previousEmail = dealer.getEmail();
             boolean hasChanges = false;
 
             // Don't allow changing dealerId as it's the primary key
@@ -178,6 +182,10 @@ public class DealerService {
             dealer.setLastUpdatedAt(LocalDateTime.now());
             Dealer updated = repo.save(dealer);
             log.info("Dealer profile updated successfully: {} (dealerId: {})", dealer.getEmail(), dealer.getDealerId());
+            evictPostingsDealerCache(previousEmail);
+            if (updated.getEmail() != null && !updated.getEmail().equalsIgnoreCase(previousEmail)) {
+                evictPostingsDealerCache(updated.getEmail());
+            }
             return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", updated));
         } catch (Exception e) {
             log.error("Error updating dealer profile for email {}: {}", dto.getEmail(), e.getMessage());
@@ -206,6 +214,18 @@ public class DealerService {
         }
     }
     
+    /**
+     * Postings caches dealer name/phone/zipcode for new posts; drop its copy after a profile change.
+     * Best effort - the entry still expires on its own TTL if this call fails.
+     */
+    private void evictPostingsDealerCache(String email) {
+        try {
+            postingsClient.evictDealerProfile(email);
+        } catch (Exception e) {
+            log.warn("Failed to evict postings dealer profile cache for {}: {}", email, e.getMessage());
+        }
+    }
+
     private void logChange(Dealer dealer, String field, String oldValue, String newValue, String updatedBy) {
         try {
             DealerAuditLog log = DealerAuditLog.builder()
@@ -32,7 +32,8 @@ public class CorsHeaderFilter implements GlobalFilter, Ordered {
         // Set CORS headers for all responses - use configured origin to prevent conflicts
         headers.set("Access-Control-Allow-Origin", allowedOrigin);
         headers.set("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS, PATCH");
-        headers.set("Access-Control-Allow-Headers", "Origin, Content-Type, Accept, Authorization, X-Requested-With, Cache-Control");
+        headers.set("Access-Control-Allow-Headers", "Origin, Content-Type, Accept, Authorization, X-Requested-With, Cache-Control, If-None-Match");
+        headers.set("Access-Control-Expose-Headers", "ETag");
         headers.set("Access-Control-Allow-Credentials", "true");
         headers.set("Access-Control-Max-Age", "3600");
         
@@ -1,14 +1,26 @@
 package com.auto.postings.controller;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Date;
 import java.util.Arrays;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +29,9 @@ import com.auto.postings.model.Posting;
 import com.auto.postings.model.PostStatus;
 import com.auto.postings.service.PostingService;
 import com.auto.postings.service.CounterOfferService;
+import com.auto.postings.service.PostingExportService;
+import com.auto.postings.service.PostingArchiveService;
+import com.auto.postings.service.AdminBulkJobService;
 
 @RestController
 @RequestMapping("/admin")
@@ -26,12 +41,19 @@ public class AdminPostingController {
 
     private final PostingService postingService;
     private final CounterOfferService counterOfferService;
+    private final PostingExportService postingExportService;
+    private final PostingArchiveService postingArchiveService;
+    private final AdminBulkJobService bulkJobService;
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
     // ==================== POST MANAGEMENT ENDPOINTS ====================
 
     /**
      * Get all posts with pagination and filtering (Admin)
      * GET /admin/posts
+     * Pass pagination.nextCursor back as beforeId to page without an offset; count=false skips the total count.
+     * includeHistory=true also lists archived posts.
      */
     @GetMapping("/posts")
     public ResponseEntity<Map<String, Object>> getAllPosts(
@@ -40,7 +62,10 @@ public class AdminPostingController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String dealerEmail,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "true") boolean count,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
         
         try {
             // Validate pagination parameters
@@ -53,19 +78,14 @@ public class AdminPostingController {
             if (dealerEmail != null && !dealerEmail.trim().isEmpty()) filters.put("dealerEmail", dealerEmail.trim());
             if (search != null && !search.trim().isEmpty()) filters.put("search", search.trim());
 
-            List<Posting> posts = postingService.getAllPostsForAdmin(filters, page, size);
-            long totalPosts = postingService.getTotalPostsCount(filters);
-            int totalPages = (int) Math.ceil((double) totalPosts / size);
+            Slice<Posting> posts = postingService.getAllPostsForAdmin(filters, page, size, beforeId, includeHistory);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", posts);
-            response.put("pagination", Map.of(
-                "currentPage", page,
-                "pageSize", size,
-                "totalElements", totalPosts,
-                "totalPages", totalPages
-            ));
+            response.put("data", posts.getContent());
+            // The count query scans every matching row, so clients paging with beforeId can skip it
+            response.put("pagination", paginationFor(posts, page, size,
+                    count ? postingService.getTotalPostsCount(filters, includeHistory) : null));
             response.put("filters", filters);
 
             return ResponseEntity.ok(response);
@@ -87,11 +107,12 @@ public class AdminPostingController {
     /**
      * Get post by ID (Admin)
      * GET /admin/posts/{id}
+     * Falls back to the archive, so archived posts stay viewable.
      */
     @GetMapping("/posts/{id}")
     public ResponseEntity<Map<String, Object>> getPostById(@PathVariable Long id) {
         try {
-            Posting post = postingService.getPostById(id);
+            Posting post = postingService.getPostByIdIncludingHistory(id);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", post);
@@ -280,19 +301,50 @@ public class AdminPostingController {
         }
     }
 
+    /**
+     * Archive terminal posts now instead of waiting for the nightly run (Admin)
+     * POST /admin/posts/archive
+     */
+    @PostMapping("/posts/archive")
+    public ResponseEntity<Map<String, Object>> archivePosts(
+            @RequestParam(defaultValue = "90") int olderThanDays) {
+        try {
+            int archived = postingArchiveService.archiveOlderThan(olderThanDays);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Archived " + archived + " posts");
+            response.put("archivedCount", archived);
+            response.put("olderThanDays", olderThanDays);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid archive request: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Invalid request: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("Error archiving posts: {}", e.getMessage(), e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Failed to archive posts: " + e.getMessage());
+            return ResponseEntity.status(500).body(error);
+        }
+    }
+
     // ==================== BULK OPERATIONS ENDPOINTS ====================
 
     /**
      * Bulk update post statuses (Admin)
      * POST /admin/posts/bulk-status-update
+     * Runs as a background job: responds 202 with a jobId to poll at GET /admin/jobs/{jobId}.
      */
     @PostMapping("/posts/bulk-status-update")
     public ResponseEntity<Map<String, Object>> bulkUpdatePostStatuses(
             @RequestBody Map<String, Object> request) {
         
         try {
-            @SuppressWarnings("unchecked")
-            List<Long> postIds = (List<Long>) request.get("postIds");
+            List<Long> postIds = toPostIds(request.get("postIds"));
             String newStatus = (String) request.get("status");
             String reason = (String) request.get("reason");
             String adminEmail = (String) request.get("adminEmail");
@@ -314,10 +366,10 @@ public class AdminPostingController {
             }
 
             // Limit bulk operations to prevent abuse
-            if (postIds.size() > 100) {
+            if (postIds.size() > AdminBulkJobService.MAX_POST_IDS) {
                 Map<String, Object> error = new HashMap<>();
                 error.put("success", false);
-                error.put("message", "Cannot update more than 100 posts at once");
+                error.put("message", "Cannot update more than " + AdminBulkJobService.MAX_POST_IDS + " posts at once");
                 return ResponseEntity.badRequest().body(error);
             }
 
@@ -348,16 +400,8 @@ public class AdminPostingController {
                 return ResponseEntity.badRequest().body(error);
             }
 
-            int updatedCount = postingService.bulkUpdatePostStatuses(postIds, status, reason, adminEmail);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Bulk status update completed successfully");
-            response.put("updatedCount", updatedCount);
-            response.put("totalRequested", postIds.size());
-            response.put("updatedAt", new Date());
-
-            return ResponseEntity.ok(response);
+            AdminBulkJobService.BulkJob job = bulkJobService.submitStatusUpdate(postIds, status, reason, adminEmail);
+            return ResponseEntity.accepted().body(jobAccepted(job, "Bulk status update started"));
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request for bulk status update: {}", e.getMessage());
             Map<String, Object> error = new HashMap<>();
@@ -376,14 +420,14 @@ public class AdminPostingController {
     /**
      * Bulk delete posts (Admin)
      * POST /admin/posts/bulk-delete
+     * Runs as a background job: responds 202 with a jobId to poll at GET /admin/jobs/{jobId}.
      */
     @PostMapping("/posts/bulk-delete")
     public ResponseEntity<Map<String, Object>> bulkDeletePosts(
             @RequestBody Map<String, Object> request) {
         
         try {
-            @SuppressWarnings("unchecked")
-            List<Long> postIds = (List<Long>) request.get("postIds");
+            List<Long> postIds = toPostIds(request.get("postIds"));
             String reason = (String) request.get("reason");
             String adminEmail = (String) request.get("adminEmail");
 
@@ -404,10 +448,10 @@ public class AdminPostingController {
             }
 
             // Limit bulk operations to prevent abuse
-            if (postIds.size() > 100) {
+            if (postIds.size() > AdminBulkJobService.MAX_POST_IDS) {
                 Map<String, Object> error = new HashMap<>();
                 error.put("success", false);
-                error.put("message", "Cannot delete more than 100 posts at once");
+                error.put("message", "Cannot delete more than " + AdminBulkJobService.MAX_POST_IDS + " posts at once");
                 return ResponseEntity.badRequest().body(error);
             }
 
@@ -419,16 +463,8 @@ public class AdminPostingController {
                 return ResponseEntity.badRequest().body(error);
             }
 
-            int deletedCount = postingService.bulkDeletePosts(postIds, reason, adminEmail);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Bulk delete completed successfully");
-            response.put("deletedCount", deletedCount);
-            response.put("totalRequested", postIds.size());
-            response.put("deletedAt", new Date());
-
-            return ResponseEntity.ok(response);
+            AdminBulkJobService.BulkJob job = bulkJobService.submitDelete(postIds, reason, adminEmail);
+            return ResponseEntity.accepted().body(jobAccepted(job, "Bulk delete started"));
         } catch (IllegalArgumentException e) {
             log.warn("Invalid request for bulk delete: {}", e.getMessage());
             Map<String, Object> error = new HashMap<>();
@@ -444,19 +480,52 @@ public class AdminPostingController {
         }
     }
 
+    /**
+     * Progress of a bulk job (Admin)
+     * GET /admin/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getBulkJob(@PathVariable String jobId) {
+        AdminBulkJobService.BulkJob job = bulkJobService.getJob(jobId);
+        if (job == null) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Job not found: " + jobId);
+            return ResponseEntity.status(404).body(error);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", job);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recent bulk jobs, newest first (Admin)
+     * GET /admin/jobs
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> getBulkJobs() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", bulkJobService.getJobs());
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== ANALYTICS & REPORTING ENDPOINTS ====================
 
     /**
      * Get posting statistics (Admin)
      * GET /admin/posts/statistics
+     * Served from the daily stats rollup: status histogram, top locations and, with dateFrom/dateTo, a daily trend.
      */
     @GetMapping("/posts/statistics")
     public ResponseEntity<Map<String, Object>> getPostingStatistics(
             @RequestParam(required = false) String dateFrom,
-            @RequestParam(required = false) String dateTo) {
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String location) {
         
         try {
-            Map<String, Object> stats = postingService.getPostingStatistics(dateFrom, dateTo);
+            Map<String, Object> stats = postingService.getPostingStatistics(dateFrom, dateTo, location);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -485,19 +554,13 @@ public class AdminPostingController {
             @RequestParam(defaultValue = "20") int size) {
         
         try {
-            List<Posting> posts = postingService.getPostsByDateRange(dateFrom, dateTo, page, size);
+            Slice<Posting> posts = postingService.getPostsByDateRange(dateFrom, dateTo, page, size);
             long totalPosts = postingService.getTotalPostsByDateRange(dateFrom, dateTo);
-            int totalPages = (int) Math.ceil((double) totalPosts / size);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", posts);
-            response.put("pagination", Map.of(
-                "currentPage", page,
-                "pageSize", size,
-                "totalElements", totalPosts,
-                "totalPages", totalPages
-            ));
+            response.put("data", posts.getContent());
+            response.put("pagination", paginationFor(posts, page, size, totalPosts));
             response.put("dateRange", Map.of("from", dateFrom, "to", dateTo));
 
             return ResponseEntity.ok(response);
@@ -510,34 +573,133 @@ public class AdminPostingController {
         }
     }
 
+    /**
+     * Full-text search over posts, most relevant first (Admin)
+     * GET /admin/posts/search?q=honda civ&status=PENDING&limit=20
+     */
+    @GetMapping("/posts/search")
+    public ResponseEntity<Map<String, Object>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        try {
+            if (limit < 1 || limit > 100) limit = 20;
+            String statusFilter = status != null && !status.trim().isEmpty() ? status.trim().toUpperCase() : null;
+
+            List<Posting> posts = postingService.searchPostsRanked(q, statusFilter, limit);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", posts);
+            response.put("query", q);
+            response.put("count", posts.size());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("Error searching posts: {}", e.getMessage(), e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Failed to search posts: " + e.getMessage());
+            return ResponseEntity.status(500).body(error);
+        }
+    }
+
+    /**
+     * Pagination block for a slice. nextCursor is the last post ID, to be passed back as beforeId;
+     * totals are only included when they were counted.
+     */
+    private static Map<String, Object> jobAccepted(AdminBulkJobService.BulkJob job, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("jobId", job.getJobId());
+        response.put("status", job.getStatus());
+        response.put("totalRequested", job.getTotal());
+        response.put("statusUrl", "/admin/jobs/" + job.getJobId());
+        return response;
+    }
+
+    /**
+     * JSON numbers arrive as Integer or Long; anything else is rejected as an invalid ID
+     */
+    private static List<Long> toPostIds(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("postIds must be an array");
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Object id : (List<?>) value) {
+            if (id != null && !(id instanceof Number)) {
+                throw new IllegalArgumentException("All post IDs must be numbers");
+            }
+            ids.add(id == null ? null : ((Number) id).longValue());
+        }
+        return ids;
+    }
+
+    private Map<String, Object> paginationFor(Slice<Posting> posts, int page, int size, Long totalPosts) {
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("currentPage", page);
+        pagination.put("pageSize", size);
+        pagination.put("hasNext", posts.hasNext());
+        List<Posting> content = posts.getContent();
+        pagination.put("nextCursor", posts.hasNext() && !content.isEmpty() ? content.get(content.size() - 1).getId() : null);
+        if (totalPosts != null) {
+            pagination.put("totalElements", totalPosts);
+            pagination.put("totalPages", (int) Math.ceil((double) totalPosts / size));
+        }
+        return pagination;
+    }
+
     /**
      * Export posts data (Admin)
      * GET /admin/posts/export
+     * Streams a CSV download (RFC 4180); gzip=true sends a .csv.gz instead.
+     * Archived posts are included unless includeHistory=false.
      */
     @GetMapping("/posts/export")
-    public ResponseEntity<Map<String, Object>> exportPosts(
+    public ResponseEntity<?> exportPosts(
             @RequestParam(required = false) String format,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String dateFrom,
-            @RequestParam(required = false) String dateTo) {
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "true") boolean includeHistory) {
         
+        PostingExportFilter filter;
         try {
-            String exportData = postingService.exportPostsData(format, status, dateFrom, dateTo);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", exportData);
-            response.put("format", format != null ? format : "csv");
-            response.put("exportedAt", new Date());
-
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error exporting posts: {}", e.getMessage(), e);
+            filter = postingExportService.resolveFilter(format, status, dateFrom, dateTo, includeHistory);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid export parameters: {}", e.getMessage());
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
             error.put("message", "Failed to export posts: " + e.getMessage());
-            return ResponseEntity.status(500).body(error);
+            return ResponseEntity.badRequest().body(error);
         }
+
+        // Rows are written as they are read; nothing is buffered beyond the writer's buffer
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            postingExportService.writeCsv(filter, writer);
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        String fileName = "posts_export_" + LocalDate.now() + (gzip ? ".csv.gz" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 
     // ==================== COUNTER OFFER ADMIN ENDPOINTS ====================
@@ -0,0 +1,62 @@
+package com.auto.postings.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auto.postings.service.DealerProfileCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation hooks for the local caches of other services' data. Internal only: callers must send
+ * the shared internal.api-token as X-Internal-Token, and the gateway does not route /cache/** at all.
+ */
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheController {
+
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final DealerProfileCache dealerProfileCache;
+
+    @Value("${internal.api-token:}")
+    private String internalApiToken;
+
+    /**
+     * Called by the dealer service after a dealer profile update
+     * DELETE /cache/dealer-profile/{email}
+     */
+    @DeleteMapping("/dealer-profile/{email}")
+    public ResponseEntity<Map<String, Object>> evictDealerProfile(
+            @PathVariable String email,
+            @RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token) {
+        if (!isInternalCall(token)) {
+            log.warn("⚠️ [CacheController] Rejected dealer profile eviction without a valid internal token");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("success", false, "message", "Internal endpoint"));
+        }
+        dealerProfileCache.evict(email);
+        return ResponseEntity.ok(Map.of("success", true, "message", "Dealer profile cache entry evicted"));
+    }
+
+    private boolean isInternalCall(String token) {
+        // No configured token means no caller can be trusted
+        if (internalApiToken == null || internalApiToken.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(internalApiToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
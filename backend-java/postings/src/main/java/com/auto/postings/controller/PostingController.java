@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.auto.postings.dto.CounterOfferRequestDto;
@@ -25,11 +26,15 @@ import com.auto.postings.dto.EditPostRequestDto;
 import com.auto.postings.dto.GetAllPostsByEmailRequestDto;
 import com.auto.postings.dto.GetByFiltersDto;
 import com.auto.postings.dto.PostRequestDto;
+import com.auto.postings.dto.PostingFeedPageDto;
+import com.auto.postings.dto.PostingView;
 import com.auto.postings.model.Posting;
 import com.auto.postings.model.PostStatus;
 import com.auto.postings.service.CounterOfferService;
+import com.auto.postings.service.PostingChangeLogService;
 import com.auto.postings.service.PostingService;
 import com.auto.postings.client.TechnicianClient;
+import com.auto.websocket.EventReplayBuffer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,6 +46,8 @@ public class PostingController {
 
     private final PostingService service;
     private final CounterOfferService counterOfferService;
+    private final PostingChangeLogService changeLogService;
+    private final EventReplayBuffer replayBuffer;
     private final TechnicianClient technicianClient;
 
     @PostMapping("/submit-post")
@@ -107,9 +114,86 @@ public class PostingController {
     }
     
 
+    /**
+     * Active posts. view=feed|summary selects only that projection's columns; default is the full entity.
+     */
     @GetMapping("/post")
-    public List<Posting> getAllPost() {
-        return service.getAllPost();
+    public ResponseEntity<?> getAllPost(@RequestParam(required = false) String view) {
+        try {
+            return ResponseEntity.ok(service.getAllPost(PostingView.fromParam(view)));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Invalid request: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Posting change log deltas after a sync position (the seq of the last change seen)
+     * GET /post/changes?since=N&limit=
+     */
+    @GetMapping("/post/changes")
+    public ResponseEntity<?> getChangesSince(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "200") int limit) {
+        try {
+            return ResponseEntity.ok(changeLogService.getChangesSince(since, limit));
+        } catch (Exception e) {
+            log.error("❌ [PostingController] Error fetching posting changes since {}: {}", since, e.getMessage(), e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Error fetching changes: " + e.getMessage());
+            return ResponseEntity.status(500).body(error);
+        }
+    }
+
+    /**
+     * WebSocket frames sent after a sequence number, for clients catching up after a reconnect
+     * GET /post/events/replay?since=N&epoch=&destination=/topic/new-post/**&destination=/topic/post-accepted&limit=
+     */
+    @GetMapping("/post/events/replay")
+    public ResponseEntity<?> replayEvents(
+            @RequestParam long since,
+            @RequestParam(required = false) String epoch,
+            @RequestParam List<String> destination,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(replayBuffer.replay(destination, since, epoch, Math.max(1, Math.min(limit, 500))));
+    }
+
+    /**
+     * Server-side filtered, keyset-paginated feed
+     * GET /post/feed?location=&status=&minOffer=&maxOffer=&premium=&afterId=&size=&view=
+     * premium=true keeps jobs of $500 or more, premium=false keeps jobs under $500
+     * view=feed|summary returns a column projection instead of full entities
+     */
+    @GetMapping("/post/feed")
+    public ResponseEntity<?> getFeedPage(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Double minOffer,
+            @RequestParam(required = false) Double maxOffer,
+            @RequestParam(required = false) Boolean premium,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String view) {
+        try {
+            PostingFeedPageDto page = service.getFeedPage(location, status, minOffer, maxOffer, premium, afterId, size,
+                    PostingView.fromParam(view));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid feed request: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Invalid request: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("❌ [PostingController] Error fetching feed page: {}", e.getMessage(), e);
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Error fetching feed: " + e.getMessage());
+            return ResponseEntity.status(500).body(error);
+        }
     }
     
     
@@ -133,8 +217,17 @@ public class PostingController {
     }
     
     @GetMapping("/post/{id}")
-    public Posting getPostById(@PathVariable Long id) {
-        return service.getPostById(id);
+    public ResponseEntity<?> getPostById(@PathVariable Long id, @RequestParam(required = false) String view) {
+        PostingView postingView;
+        try {
+            postingView = PostingView.fromParam(view);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", "Invalid request: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+        return ResponseEntity.ok(service.getPostById(id, postingView));
     }
     
     
@@ -7,4 +7,7 @@ public class GetAllPostsByEmailRequestDto {
 	
 	private String email;
 
+	// Also return archived (completed/cancelled) posts
+	private boolean includeHistory;
+
 }
@@ -0,0 +1,39 @@
+package com.auto.postings.dto;
+
+import java.util.Date;
+
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact /topic/new-post/{location} payload: the feed card fields (see PostingFeedView),
+ * without phone numbers, technician assignment or audit fields.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NewPostEventDto {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String content;
+    private String location;
+    private String offerAmount;
+    private Long offerCents;
+    private PostStatus status;
+    private Date createdAt;
+    private String vin;
+    private String auctionLot;
+    private String zipcode;
+
+    public static NewPostEventDto from(Posting post) {
+        return new NewPostEventDto(post.getId(), post.getName(), post.getEmail(), post.getContent(),
+                post.getLocation(), post.getOfferAmount(), post.getOfferCents(), post.getStatus(),
+                post.getCreatedAt(), post.getVin(), post.getAuctionLot(), post.getZipcode());
+    }
+}
@@ -0,0 +1,25 @@
+package com.auto.postings.dto;
+
+import java.util.Date;
+
+import com.auto.postings.model.Posting;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change-log delta. post is the current state of the posting, or null if it no longer exists.
+ * seq is the sync position (the writing transaction's ID); changes of one transaction share it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostingChangeDto {
+
+    private Long seq;
+    private Long postId;
+    private String changeType;
+    private Date changedAt;
+    private Posting post;
+}
@@ -0,0 +1,22 @@
+package com.auto.postings.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of GET /post/changes. When resetRequired is true changes after the requested
+ * position have been pruned from the log and the client must do a full reload.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostingChangesResponseDto {
+
+    private List<PostingChangeDto> changes;
+    private long latestSeq;
+    private boolean hasMore;
+    private boolean resetRequired;
+}
@@ -0,0 +1,20 @@
+package com.auto.postings.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Validated filters for a posting export. An empty status exports every status;
+ * the created_at bounds are inclusive. includeHistory also exports archived posts (posting_history).
+ */
+@Getter
+@AllArgsConstructor
+public class PostingExportFilter {
+
+    private final String status;
+    private final Date createdFrom;
+    private final Date createdTo;
+    private final boolean includeHistory;
+}
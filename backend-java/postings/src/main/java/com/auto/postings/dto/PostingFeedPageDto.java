@@ -0,0 +1,22 @@
+package com.auto.postings.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of the posting feed. Pass nextCursor back as afterId to get the next page.
+ * posts holds Posting entities or a projection, depending on the requested view.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostingFeedPageDto {
+
+    private List<?> posts;
+    private Long nextCursor;
+    private boolean hasMore;
+    private int size;
+}
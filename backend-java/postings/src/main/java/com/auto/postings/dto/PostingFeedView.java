@@ -0,0 +1,24 @@
+package com.auto.postings.dto;
+
+import java.util.Date;
+
+import com.auto.postings.model.PostStatus;
+
+/**
+ * Feed card projection: what technicians need to browse and pick up a job.
+ * Omits phone numbers, technician assignment fields and the inspection report link.
+ */
+public interface PostingFeedView {
+    Long getId();
+    String getName();
+    String getEmail();
+    String getContent();
+    String getLocation();
+    String getOfferAmount();
+    Long getOfferCents();
+    PostStatus getStatus();
+    Date getCreatedAt();
+    String getVin();
+    String getAuctionLot();
+    String getZipcode();
+}
@@ -0,0 +1,19 @@
+package com.auto.postings.dto;
+
+import java.util.Date;
+
+import com.auto.postings.model.PostStatus;
+
+/**
+ * Minimal listing projection: identity, place, price and status.
+ */
+public interface PostingSummaryView {
+    Long getId();
+    String getName();
+    String getLocation();
+    String getOfferAmount();
+    Long getOfferCents();
+    PostStatus getStatus();
+    Date getCreatedAt();
+    Date getUpdatedAt();
+}
@@ -0,0 +1,25 @@
+package com.auto.postings.dto;
+
+/**
+ * Named response shapes for posting reads (?view=full|feed|summary).
+ * FULL is the whole Posting entity; FEED and SUMMARY select only their columns.
+ */
+public enum PostingView {
+    FULL,
+    FEED,
+    SUMMARY;
+
+    /**
+     * Parse a view parameter; null or blank means FULL
+     */
+    public static PostingView fromParam(String view) {
+        if (view == null || view.trim().isEmpty()) {
+            return FULL;
+        }
+        try {
+            return PostingView.valueOf(view.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view '" + view + "', expected full, feed or summary");
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.auto.postings.util.OfferAmounts;
+
 import java.time.LocalDateTime;
 
 /**
@@ -59,6 +61,10 @@ public class CounterOffer {
     @Column(name = "requested_offer_amount", nullable = false)
     private String requestedOfferAmount;
 
+    // Requested offer in integer cents, derived from requestedOfferAmount on every write
+    @Column(name = "requested_offer_cents")
+    private Long requestedOfferCents;
+
     @NotBlank(message = "Technician location is required")
     @Size(max = 255, message = "Location must not exceed 255 characters")
     @Column(name = "technician_location", nullable = false)
@@ -97,6 +103,12 @@ public class CounterOffer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    protected void syncOfferCents() {
+        this.requestedOfferCents = OfferAmounts.toCents(this.requestedOfferAmount);
+    }
+
     // Business Methods
     public void acceptByDealer(String dealerNotes) {
         this.status = CounterOfferStatus.ACCEPTED;
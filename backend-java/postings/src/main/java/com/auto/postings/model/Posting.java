@@ -10,13 +10,23 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import com.auto.postings.util.OfferAmounts;
 
 @Entity
 @Table(name="posting_dashboard")
@@ -36,6 +46,9 @@ private Long id;
 	@Column(nullable = false)
 	private String location;
 	private String offerAmount;
+	// Offer in integer cents, derived from offerAmount on every write; used for filtering and sorting
+	@Column(name = "offer_cents")
+	private Long offerCents;
 	@Column(name = "created_at")
 	private Date createdAt;
     @Enumerated(EnumType.STRING)
@@ -63,6 +76,29 @@ private Long id;
     @Column(name = "inspection_report_id")
     private Long inspectionReportId;
 
+    // Dealer zipcode at posting time, used for radius matching in the technician feed
+    @Column(name = "zipcode", length = 10)
+    private String zipcode;
+
+    // Bumped by every update, including the conditional acceptance UPDATE in PostingRepository
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Status/location bucket this post is currently counted under in posting_daily_stats
+    // (null = not counted yet), so a transition can move it between rollup buckets
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String countedStatus;
+
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String countedLocation;
+
 
 
 
@@ -72,6 +108,18 @@ private Long id;
         if (this.status == null) {
  this.status = PostStatus.PENDING;
         }
+        this.offerCents = OfferAmounts.toCents(this.offerAmount);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.offerCents = OfferAmounts.toCents(this.offerAmount);
+    }
+
+    @PostLoad
+    protected void onLoad() {
+        this.countedStatus = PostingDailyStats.statusKey(this.status);
+        this.countedLocation = PostingDailyStats.locationKey(this.location);
     }
 
 
@@ -0,0 +1,67 @@
+package com.auto.postings.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Append-only change log entry for a Posting. Clients sync by txid, the ID of the transaction
+ * that wrote the entry (see PostingChangeLogService.getChangesSince); seq only orders entries
+ * within one transaction.
+ */
+@Entity
+@Table(name = "posting_change_log",
+       indexes = {
+           @Index(name = "idx_posting_change_log_post_id", columnList = "post_id"),
+           @Index(name = "idx_posting_change_log_changed_at", columnList = "changed_at")
+       })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    // Filled by the column default (pg_current_xact_id)
+    @Column(name = "txid", insertable = false, updatable = false)
+    private Long txid;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50)
+    private PostStatus status;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "changed_at", nullable = false)
+    private Date changedAt;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        ACCEPTED,
+        DELETED
+    }
+}
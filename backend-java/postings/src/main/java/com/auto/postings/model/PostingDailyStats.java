@@ -0,0 +1,66 @@
+package com.auto.postings.model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rollup bucket: number of postings created on statDay in a location that currently have
+ * a given status. Maintained incrementally on every posting transition.
+ */
+@Entity
+@Table(name = "posting_daily_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_posting_daily_stats",
+                                             columnNames = { "stat_day", "location", "status" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate statDay;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    // Days are UTC days. Timestamps are stored as UTC (hibernate.jdbc.time_zone), so this matches
+    // CAST(created_at AS DATE) in the V15 migration and PostingDailyStatsRepository.rebuildDays
+    public static final ZoneId STATS_ZONE = ZoneOffset.UTC;
+
+    // Bucket keys - must match the rebuild in the V15 migration and PostingDailyStatsRepository.rebuildDays
+
+    public static LocalDate dayOf(Date createdAt) {
+        return createdAt == null ? LocalDate.EPOCH
+                : createdAt.toInstant().atZone(STATS_ZONE).toLocalDate();
+    }
+
+    public static String statusKey(PostStatus status) {
+        return status == null ? "UNKNOWN" : status.name();
+    }
+
+    public static String locationKey(String location) {
+        return location == null ? "" : location.trim();
+    }
+}
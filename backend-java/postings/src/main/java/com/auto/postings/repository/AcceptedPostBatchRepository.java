@@ -0,0 +1,52 @@
+package com.auto.postings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.auto.postings.model.AcceptedPost;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC batch inserts for accepted_posts. AcceptedPost uses IDENTITY ids, which stops
+ * Hibernate from batching inserts, so bulk paths write through here instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AcceptedPostBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    // A post accepted concurrently is skipped instead of failing the whole batch
+    private static final String INSERT_SQL = "INSERT INTO accepted_posts " +
+            "(post_id, technician_email, offer_amount, acceptance_notes, accepted_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the records in JDBC batches. Joins the caller's transaction.
+     */
+    public void insertAll(List<AcceptedPost> acceptedPosts) {
+        if (acceptedPosts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, acceptedPosts, BATCH_SIZE, (ps, acceptedPost) -> {
+            ps.setLong(1, acceptedPost.getPostId());
+            ps.setString(2, acceptedPost.getTechnicianEmail());
+            ps.setString(3, acceptedPost.getOfferAmount());
+            ps.setString(4, acceptedPost.getAcceptanceNotes());
+            ps.setTimestamp(5, toTimestamp(acceptedPost.getAcceptedAt()));
+            ps.setTimestamp(6, toTimestamp(acceptedPost.getCreatedAt()));
+            ps.setTimestamp(7, toTimestamp(acceptedPost.getUpdatedAt()));
+        });
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,12 @@ public interface AcceptedPostRepository extends JpaRepository<AcceptedPost, Long
     @Query("SELECT a.postId FROM AcceptedPost a")
     List<Long> findAllAcceptedPostIds();
 
+    /**
+     * Which of the given post IDs already have an accepted post record
+     */
+    @Query("SELECT a.postId FROM AcceptedPost a WHERE a.postId IN :postIds")
+    List<Long> findAcceptedPostIdsIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * Get accepted post IDs by technician email
      */
@@ -0,0 +1,43 @@
+package com.auto.postings.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.auto.postings.model.PostingChange;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC batch inserts for posting_change_log. PostingChange uses an IDENTITY sequence, which stops
+ * Hibernate from batching inserts, so bulk admin operations write their entries through here.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostingChangeBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO posting_change_log " +
+            "(post_id, change_type, status, location, changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the entries in JDBC batches. Joins the caller's transaction.
+     */
+    public void insertAll(List<PostingChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, change.getPostId());
+            ps.setString(2, change.getChangeType().name());
+            ps.setString(3, change.getStatus() == null ? null : change.getStatus().name());
+            ps.setString(4, change.getLocation());
+            ps.setTimestamp(5, new Timestamp(change.getChangedAt().getTime()));
+        });
+    }
+}
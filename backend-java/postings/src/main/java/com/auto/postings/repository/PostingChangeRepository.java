@@ -0,0 +1,44 @@
+package com.auto.postings.repository;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.auto.postings.model.PostingChange;
+
+@Repository
+public interface PostingChangeRepository extends JpaRepository<PostingChange, Long> {
+
+    // Oldest transaction still in flight: every txid below it has committed or rolled back
+    @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+    long findCommitWatermark();
+
+    // Changes of finished transactions after a txid, oldest first
+    @Query(value = "SELECT * FROM posting_change_log WHERE txid > :since AND txid < :watermark "
+            + "ORDER BY txid, seq LIMIT :limit", nativeQuery = true)
+    List<PostingChange> findCommittedAfter(@Param("since") long since, @Param("watermark") long watermark,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM posting_change_log WHERE txid = :txid ORDER BY seq", nativeQuery = true)
+    List<PostingChange> findByTxid(@Param("txid") long txid);
+
+    @Query(value = "SELECT pruned_through FROM posting_change_log_state WHERE id = 1", nativeQuery = true)
+    Long findPrunedThrough();
+
+    // Retention cleanup - run markPrunedBefore first, in the same transaction
+    @Modifying
+    @Query("DELETE FROM PostingChange c WHERE c.changedAt < :cutoff")
+    int deleteByChangedAtBefore(@Param("cutoff") Date cutoff);
+
+    // Remember the highest txid that deleteByChangedAtBefore is about to remove
+    @Modifying
+    @Query(value = "UPDATE posting_change_log_state SET pruned_through = GREATEST(pruned_through, "
+            + "(SELECT COALESCE(MAX(txid), 0) FROM posting_change_log WHERE changed_at < :cutoff)) WHERE id = 1",
+            nativeQuery = true)
+    int markPrunedBefore(@Param("cutoff") Date cutoff);
+}
@@ -0,0 +1,74 @@
+package com.auto.postings.repository;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.auto.postings.model.PostingDailyStats;
+
+@Repository
+public interface PostingDailyStatsRepository extends JpaRepository<PostingDailyStats, Long> {
+
+    // Atomically add delta (+1/-1) to a day x location x status bucket, creating it if needed
+    @Modifying
+    @Query(value = "INSERT INTO posting_daily_stats (stat_day, location, status, post_count) " +
+           "VALUES (:day, :location, :status, :delta) " +
+           "ON CONFLICT (stat_day, location, status) " +
+           "DO UPDATE SET post_count = posting_daily_stats.post_count + EXCLUDED.post_count",
+           nativeQuery = true)
+    int addToBucket(@Param("day") LocalDate day,
+                    @Param("location") String location,
+                    @Param("status") String status,
+                    @Param("delta") long delta);
+
+    // Empty location means all locations
+    // [status, count]
+    @Query("SELECT s.status, SUM(s.postCount) FROM PostingDailyStats s " +
+           "WHERE s.statDay BETWEEN :from AND :to AND (:location = '' OR s.location = :location) " +
+           "GROUP BY s.status")
+    List<Object[]> sumByStatus(@Param("from") LocalDate from,
+                               @Param("to") LocalDate to,
+                               @Param("location") String location);
+
+    // [day, status, count], oldest day first
+    @Query("SELECT s.statDay, s.status, SUM(s.postCount) FROM PostingDailyStats s " +
+           "WHERE s.statDay BETWEEN :from AND :to AND (:location = '' OR s.location = :location) " +
+           "GROUP BY s.statDay, s.status ORDER BY s.statDay ASC")
+    List<Object[]> sumByDayAndStatus(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("location") String location);
+
+    // [location, count], busiest first
+    @Query("SELECT s.location, SUM(s.postCount) FROM PostingDailyStats s " +
+           "WHERE s.statDay BETWEEN :from AND :to " +
+           "GROUP BY s.location ORDER BY SUM(s.postCount) DESC")
+    List<Object[]> sumByLocation(@Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(s.postCount), 0) FROM PostingDailyStats s WHERE s.statDay BETWEEN :from AND :to")
+    long sumPostCount(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Reconciliation: drop and recompute the buckets of a day range from posting_dashboard and
+    // the archived posting_history (posting_with_history view), since archived posts still count.
+    // created_at holds UTC, so its DATE is the PostingDailyStats.STATS_ZONE day
+    @Modifying
+    @Query(value = "DELETE FROM posting_daily_stats WHERE stat_day >= :from AND stat_day < :toExclusive",
+           nativeQuery = true)
+    int deleteDays(@Param("from") LocalDate from, @Param("toExclusive") LocalDate toExclusive);
+
+    @Modifying
+    @Query(value = "INSERT INTO posting_daily_stats (stat_day, location, status, post_count) " +
+           "SELECT CAST(p.created_at AS DATE), COALESCE(TRIM(p.location), ''), COALESCE(p.status, 'UNKNOWN'), COUNT(*) " +
+           "FROM posting_with_history p WHERE p.created_at >= :fromTime AND p.created_at < :toTime " +
+           "GROUP BY 1, 2, 3",
+           nativeQuery = true)
+    int rebuildDays(@Param("fromTime") Date fromTime, @Param("toTime") Date toTime);
+}
@@ -0,0 +1,77 @@
+package com.auto.postings.repository;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves terminal postings from posting_dashboard into the range-partitioned posting_history
+ * table (see V12 migration). Reads across both tables go through the posting_with_history view
+ * in PostingRepository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostingHistoryRepository {
+
+    // Postings in these states never change again, apart from an admin restore of a deleted post
+    private static final String TERMINAL_STATUSES = "('DELETED', 'COMPLETED', 'CANCELLED')";
+
+    private static final String COLUMNS = "id, name, email, content, location, offer_amount, offer_cents, status, " +
+            "vin, auction_lot, created_at, updated_at, accepted_at, technician_email, technician_name, " +
+            "technician_phone, dealer_phone, expected_completion_by, inspection_report_id, zipcode, version";
+
+    // Rows being edited concurrently are skipped and picked up by a later run
+    private static final String LOCK_CANDIDATES_SQL = "SELECT id, CAST(EXTRACT(YEAR FROM created_at) AS INTEGER) AS created_year " +
+            "FROM posting_dashboard WHERE status IN " + TERMINAL_STATUSES +
+            " AND COALESCE(updated_at, created_at) < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MOVE_SQL = "WITH moved AS (DELETE FROM posting_dashboard WHERE id = ANY (?) " +
+            "RETURNING " + COLUMNS + ") INSERT INTO posting_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lock up to limit archivable postings last touched before cutoff. Must run in a transaction.
+     */
+    public List<Candidate> lockCandidates(Timestamp cutoff, int limit) {
+        return jdbcTemplate.query(LOCK_CANDIDATES_SQL,
+                (rs, rowNum) -> new Candidate(rs.getLong("id"), (Integer) rs.getObject("created_year")),
+                cutoff, limit);
+    }
+
+    /**
+     * Create the yearly partition for created_at values in the given year if it does not exist yet
+     */
+    public void ensureYearPartition(int year) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS posting_history_%d PARTITION OF posting_history " +
+                "FOR VALUES FROM ('%d-01-01') TO ('%d-01-01')", year, year, year + 1));
+    }
+
+    /**
+     * Move the given postings into posting_history in one statement. Returns the number moved.
+     */
+    public int moveToHistory(List<Long> ids) {
+        return jdbcTemplate.update(MOVE_SQL, ps -> {
+            Array idArray = ps.getConnection().createArrayOf("bigint", ids.toArray());
+            ps.setArray(1, idArray);
+        });
+    }
+
+    /**
+     * Archivable posting and its created_at year (null when created_at is missing)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Candidate {
+        private final long id;
+        private final Integer createdYear;
+    }
+}
@@ -1,16 +1,26 @@
 package com.auto.postings.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
+import com.auto.postings.dto.PostingFeedView;
+import com.auto.postings.dto.PostingSummaryView;
 import com.auto.postings.model.Posting;
 import com.auto.postings.model.PostStatus;
 
@@ -34,46 +44,256 @@ public interface PostingRepository extends JpaRepository<Posting, Long>{
     @Query("SELECT p FROM Posting p WHERE p.email = :email ORDER BY p.id ASC")
     List<Posting> findByEmailOrderByIdDescIncludingDeleted(@Param("email") String email);
     
+    	// ✅ FEED: Keyset-paginated, server-side filtered feed (backed by idx_posting_dashboard_feed_* indexes)
+	// Empty location/status and negative offer bounds (cents) mean "no filter"; an empty status means active posts only
+	String FEED_PAGE_FILTER = "FROM posting_dashboard p WHERE p.id > :afterId " +
+		   "AND (:location = '' OR LOWER(TRIM(p.location)) = :location) " +
+		   "AND ((:status = '' AND p.status NOT IN ('DELETED', 'ACCEPTED')) OR p.status = :status) " +
+		   "AND (:minOfferCents < 0 OR p.offer_cents >= :minOfferCents) " +
+		   "AND (:maxOfferCents < 0 OR p.offer_cents <= :maxOfferCents) " +
+		   "ORDER BY p.id ASC LIMIT :limit";
+
+	// Quoted aliases keep the camelCase projection property names in PostgreSQL
+	String FEED_VIEW_COLUMNS = "p.id AS \"id\", p.name AS \"name\", p.email AS \"email\", p.content AS \"content\", " +
+		   "p.location AS \"location\", p.offer_amount AS \"offerAmount\", p.offer_cents AS \"offerCents\", " +
+		   "p.status AS \"status\", p.created_at AS \"createdAt\", p.vin AS \"vin\", " +
+		   "p.auction_lot AS \"auctionLot\", p.zipcode AS \"zipcode\" ";
+
+	String SUMMARY_VIEW_COLUMNS = "p.id AS \"id\", p.name AS \"name\", p.location AS \"location\", " +
+		   "p.offer_amount AS \"offerAmount\", p.offer_cents AS \"offerCents\", p.status AS \"status\", " +
+		   "p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\" ";
+
+	@Query(value = "SELECT * " + FEED_PAGE_FILTER, nativeQuery = true)
+	List<Posting> findFeedPage(
+		@Param("location") String location,
+		@Param("status") String status,
+		@Param("minOfferCents") long minOfferCents,
+		@Param("maxOfferCents") long maxOfferCents,
+		@Param("afterId") long afterId,
+		@Param("limit") int limit);
+
+	@Query(value = "SELECT " + FEED_VIEW_COLUMNS + FEED_PAGE_FILTER, nativeQuery = true)
+	List<PostingFeedView> findFeedPageFeedView(
+		@Param("location") String location,
+		@Param("status") String status,
+		@Param("minOfferCents") long minOfferCents,
+		@Param("maxOfferCents") long maxOfferCents,
+		@Param("afterId") long afterId,
+		@Param("limit") int limit);
+
+	@Query(value = "SELECT " + SUMMARY_VIEW_COLUMNS + FEED_PAGE_FILTER, nativeQuery = true)
+	List<PostingSummaryView> findFeedPageSummaryView(
+		@Param("location") String location,
+		@Param("status") String status,
+		@Param("minOfferCents") long minOfferCents,
+		@Param("maxOfferCents") long maxOfferCents,
+		@Param("afterId") long afterId,
+		@Param("limit") int limit);
+
+	// ✅ PROJECTIONS: Active posts / single post selecting only the view's columns
+	@Query("SELECT p.id AS id, p.name AS name, p.email AS email, p.content AS content, p.location AS location, " +
+		   "p.offerAmount AS offerAmount, p.offerCents AS offerCents, p.status AS status, p.createdAt AS createdAt, " +
+		   "p.vin AS vin, p.auctionLot AS auctionLot, p.zipcode AS zipcode " +
+		   "FROM Posting p WHERE p.status != 'DELETED' AND p.status != 'ACCEPTED' ORDER BY p.id ASC")
+	List<PostingFeedView> findAllActiveFeedView();
+
+	@Query("SELECT p.id AS id, p.name AS name, p.location AS location, p.offerAmount AS offerAmount, " +
+		   "p.offerCents AS offerCents, p.status AS status, p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+		   "FROM Posting p WHERE p.status != 'DELETED' AND p.status != 'ACCEPTED' ORDER BY p.id ASC")
+	List<PostingSummaryView> findAllActiveSummaryView();
+
+	@Query("SELECT p.id AS id, p.name AS name, p.email AS email, p.content AS content, p.location AS location, " +
+		   "p.offerAmount AS offerAmount, p.offerCents AS offerCents, p.status AS status, p.createdAt AS createdAt, " +
+		   "p.vin AS vin, p.auctionLot AS auctionLot, p.zipcode AS zipcode " +
+		   "FROM Posting p WHERE p.id = :id")
+	Optional<PostingFeedView> findFeedViewById(@Param("id") Long id);
+
+	@Query("SELECT p.id AS id, p.name AS name, p.location AS location, p.offerAmount AS offerAmount, " +
+		   "p.offerCents AS offerCents, p.status AS status, p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+		   "FROM Posting p WHERE p.id = :id")
+	Optional<PostingSummaryView> findSummaryViewById(@Param("id") Long id);
+    
     	// Legacy methods (keeping for compatibility)
 	List<Posting> findAll();
 	void deleteById(Long id);
 	Optional<Posting> findById(Long id);
 	
-	// ✅ PESSIMISTIC LOCKING: Find post by ID with lock to prevent race conditions
-	@Query("SELECT p FROM Posting p WHERE p.id = :id")
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	Optional<Posting> findByIdWithLock(@Param("id") Long id);
+	// ✅ ATOMIC ACCEPTANCE: Single conditional UPDATE, only the first acceptor of a PENDING post gets 1 row.
+	// The row lock lasts for this statement only, so callers fetch technician details before calling.
+	// Bulk updates skip entity callbacks, hence offerCents is passed in alongside offerAmount.
+	String ACCEPT_SET = "p.status = com.auto.postings.model.PostStatus.ACCEPTED, p.acceptedAt = :acceptedAt, " +
+		   "p.technicianEmail = :technicianEmail, p.technicianName = :technicianName, " +
+		   "p.technicianPhone = COALESCE(:technicianPhone, p.technicianPhone), " +
+		   "p.expectedCompletionBy = :expectedCompletionBy, p.updatedAt = :acceptedAt, p.version = p.version + 1";
+	String ACCEPT_WHERE = " WHERE p.id = :id AND p.status = com.auto.postings.model.PostStatus.PENDING";
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Posting p SET " + ACCEPT_SET + ACCEPT_WHERE)
+	int acceptIfPending(@Param("id") Long id,
+		@Param("technicianEmail") String technicianEmail,
+		@Param("technicianName") String technicianName,
+		@Param("technicianPhone") String technicianPhone,
+		@Param("acceptedAt") java.util.Date acceptedAt,
+		@Param("expectedCompletionBy") java.util.Date expectedCompletionBy);
+
+	// Same as acceptIfPending, also replacing the offer (counter offer acceptance)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Posting p SET " + ACCEPT_SET + ", p.offerAmount = :offerAmount, p.offerCents = :offerCents" + ACCEPT_WHERE)
+	int acceptIfPendingWithOffer(@Param("id") Long id,
+		@Param("technicianEmail") String technicianEmail,
+		@Param("technicianName") String technicianName,
+		@Param("technicianPhone") String technicianPhone,
+		@Param("acceptedAt") java.util.Date acceptedAt,
+		@Param("expectedCompletionBy") java.util.Date expectedCompletionBy,
+		@Param("offerAmount") String offerAmount,
+		@Param("offerCents") Long offerCents);
 
 	// ==================== ADMIN REPOSITORY METHODS ====================
 
+	// Empty strings mean "no filter". search matches the full-text search_vector (tsQuery is the
+	// prefix tsquery built from it) or a partial location/email (trigram indexes), see V9 migration
+	String ADMIN_FILTER = "(:status = '' OR p.status = :status) " +
+		   "AND (:location = '' OR p.location ILIKE '%' || :location || '%') " +
+		   "AND (:dealerEmail = '' OR p.email = :dealerEmail) " +
+		   "AND (:search = '' " +
+		   "OR (:tsQuery <> '' AND p.search_vector @@ to_tsquery('english', :tsQuery)) " +
+		   "OR p.location ILIKE '%' || :search || '%' OR p.email ILIKE '%' || :search || '%')";
+
 	/**
 	 * Find all posts with filters for admin
 	 */
-	@Query("SELECT p FROM Posting p WHERE " +
-		   "(:status IS NULL OR p.status = :status) AND " +
-		   "(:location IS NULL OR p.location LIKE %:location%) AND " +
-		   "(:dealerEmail IS NULL OR p.email = :dealerEmail) AND " +
-		   "(:search IS NULL OR p.content LIKE %:search% OR p.location LIKE %:search%) " +
-		   "ORDER BY p.createdAt DESC")
+	@Query(value = "SELECT p.* FROM posting_dashboard p WHERE " + ADMIN_FILTER + " ORDER BY p.created_at DESC",
+		   nativeQuery = true)
 	List<Posting> findAllWithFilters(
 		@Param("status") String status,
 		@Param("location") String location,
 		@Param("dealerEmail") String dealerEmail,
-		@Param("search") String search);
+		@Param("search") String search,
+		@Param("tsQuery") String tsQuery);
 
 	/**
 	 * Count posts with filters for admin
 	 */
-	@Query("SELECT COUNT(p) FROM Posting p WHERE " +
-		   "(:status IS NULL OR p.status = :status) AND " +
-		   "(:location IS NULL OR p.location LIKE %:location%) AND " +
-		   "(:dealerEmail IS NULL OR p.email = :dealerEmail) AND " +
-		   "(:search IS NULL OR p.content LIKE %:search% OR p.location LIKE %:search%)")
+	@Query(value = "SELECT COUNT(*) FROM posting_dashboard p WHERE " + ADMIN_FILTER, nativeQuery = true)
 	long countWithFilters(
 		@Param("status") String status,
 		@Param("location") String location,
 		@Param("dealerEmail") String dealerEmail,
-		@Param("search") String search);
+		@Param("search") String search,
+		@Param("tsQuery") String tsQuery);
+
+	/**
+	 * One page of filtered posts for admin, newest first, without a count query. The Pageable only
+	 * supplies offset and limit; beforeId is the keyset cursor for deep pages (Long.MAX_VALUE for none).
+	 */
+	@Query(value = "SELECT p.* FROM posting_dashboard p WHERE p.id < :beforeId AND " + ADMIN_FILTER +
+		   " ORDER BY p.id DESC", nativeQuery = true)
+	Slice<Posting> findAdminSlice(
+		@Param("status") String status,
+		@Param("location") String location,
+		@Param("dealerEmail") String dealerEmail,
+		@Param("search") String search,
+		@Param("tsQuery") String tsQuery,
+		@Param("beforeId") long beforeId,
+		Pageable pageable);
+
+	// ==================== BULK ADMIN OPERATIONS ====================
+	// Set-based chunks for AdminBulkJobService. Rows are locked in id order so concurrent chunks
+	// cannot deadlock; the lock only lasts for the chunk's short transaction.
+
+	@Query("SELECT p FROM Posting p WHERE p.id IN :ids ORDER BY p.id")
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<Posting> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Posting p SET p.status = :status, p.updatedAt = :updatedAt, p.version = p.version + 1 " +
+		   "WHERE p.id IN :ids")
+	int updateStatusByIds(@Param("ids") Collection<Long> ids,
+		@Param("status") PostStatus status,
+		@Param("updatedAt") java.util.Date updatedAt);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM Posting p WHERE p.id IN :ids")
+	int deleteByIds(@Param("ids") Collection<Long> ids);
+
+	// ==================== INCLUDE-HISTORY READS ====================
+	// posting_with_history is posting_dashboard UNION ALL the archived posting_history (V12 migration).
+	// Rows come back as Posting entities for display only; archived ones cannot be saved.
+
+	@Query(value = "SELECT COUNT(*) FROM posting_with_history p WHERE " + ADMIN_FILTER, nativeQuery = true)
+	long countWithFiltersIncludingHistory(
+		@Param("status") String status,
+		@Param("location") String location,
+		@Param("dealerEmail") String dealerEmail,
+		@Param("search") String search,
+		@Param("tsQuery") String tsQuery);
+
+	@Query(value = "SELECT p.* FROM posting_with_history p WHERE p.id < :beforeId AND " + ADMIN_FILTER +
+		   " ORDER BY p.id DESC", nativeQuery = true)
+	Slice<Posting> findAdminSliceIncludingHistory(
+		@Param("status") String status,
+		@Param("location") String location,
+		@Param("dealerEmail") String dealerEmail,
+		@Param("search") String search,
+		@Param("tsQuery") String tsQuery,
+		@Param("beforeId") long beforeId,
+		Pageable pageable);
+
+	// Dealer's non-deleted posts including archived ones - OLDEST FIRST, like findByEmailOrderByIdDesc
+	@Query(value = "SELECT p.* FROM posting_with_history p WHERE p.email = :email AND p.status <> 'DELETED' " +
+		   "ORDER BY p.id ASC", nativeQuery = true)
+	List<Posting> findByEmailIncludingHistory(@Param("email") String email);
+
+	@Query(value = "SELECT p.* FROM posting_with_history p WHERE p.id = :id LIMIT 1", nativeQuery = true)
+	Optional<Posting> findByIdIncludingHistory(@Param("id") Long id);
+
+	/**
+	 * Full-text search ranked by relevance (ts_rank_cd over search_vector), then newest first.
+	 * An empty status searches every status.
+	 */
+	@Query(value = "SELECT p.* FROM posting_dashboard p " +
+		   "WHERE p.search_vector @@ to_tsquery('english', :tsQuery) " +
+		   "AND (:status = '' OR p.status = :status) " +
+		   "ORDER BY ts_rank_cd(p.search_vector, to_tsquery('english', :tsQuery)) DESC, p.id DESC " +
+		   "LIMIT :limit", nativeQuery = true)
+	List<Posting> searchRanked(
+		@Param("tsQuery") String tsQuery,
+		@Param("status") String status,
+		@Param("limit") int limit);
+
+	/**
+	 * Every post matching the export filters, oldest first, read through a server-side cursor.
+	 * Must be consumed inside a read-only transaction (PostgreSQL only honors the fetch size
+	 * with autocommit off) and closed afterwards.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query(value = "SELECT p.* FROM posting_dashboard p " +
+		   "WHERE (:status = '' OR p.status = :status) " +
+		   "AND p.created_at >= :createdFrom AND p.created_at <= :createdTo " +
+		   "ORDER BY p.id ASC", nativeQuery = true)
+	Stream<Posting> streamForExport(
+		@Param("status") String status,
+		@Param("createdFrom") java.util.Date createdFrom,
+		@Param("createdTo") java.util.Date createdTo);
+
+	/**
+	 * streamForExport across hot and archived posts (posting_with_history), with the same cursor rules
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query(value = "SELECT p.* FROM posting_with_history p " +
+		   "WHERE (:status = '' OR p.status = :status) " +
+		   "AND p.created_at >= :createdFrom AND p.created_at <= :createdTo " +
+		   "ORDER BY p.id ASC", nativeQuery = true)
+	Stream<Posting> streamForExportWithHistory(
+		@Param("status") String status,
+		@Param("createdFrom") java.util.Date createdFrom,
+		@Param("createdTo") java.util.Date createdTo);
 
 	/**
 	 * Count posts by status
@@ -82,12 +302,13 @@ public interface PostingRepository extends JpaRepository<Posting, Long>{
 	long countByStatus(@Param("status") PostStatus status);
 
 	/**
-	 * Find all posts with pagination for admin
+	 * One page of posts created in a date range for admin, without a count query
 	 */
-	@Query("SELECT p FROM Posting p ORDER BY p.createdAt DESC")
-	List<Posting> findAllWithPagination(
-		@Param("page") int page,
-		@Param("size") int size);
+	@Query("SELECT p FROM Posting p WHERE p.createdAt BETWEEN :dateFrom AND :dateTo")
+	Slice<Posting> findByDateRange(
+		@Param("dateFrom") java.util.Date dateFrom,
+		@Param("dateTo") java.util.Date dateTo,
+		Pageable pageable);
 
 	/**
 	 * Find posts by date range for admin
@@ -0,0 +1,167 @@
+package com.auto.postings.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.auto.postings.model.PostStatus;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs admin bulk status updates and deletes in the background, one set-based chunk at a time,
+ * and tracks their progress by job ID (GET /admin/jobs/{jobId}). Jobs run one after another on
+ * a single worker thread and are kept in memory for an hour after they finish.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminBulkJobService {
+
+    public static final int MAX_POST_IDS = 10000;
+
+    private static final long FINISHED_JOB_RETENTION_MS = 60 * 60 * 1000L;
+
+    private final PostingService postingService;
+
+    @Value("${postings.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    private final Map<String, BulkJob> jobsById = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "admin-bulk-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Queue a bulk status update. Returns immediately with the queued job.
+     */
+    public BulkJob submitStatusUpdate(List<Long> postIds, PostStatus newStatus, String reason, String adminEmail) {
+        return submit("STATUS_UPDATE", postIds, adminEmail,
+                chunk -> postingService.updatePostStatusChunk(chunk, newStatus, reason, adminEmail));
+    }
+
+    /**
+     * Queue a bulk hard delete. Returns immediately with the queued job.
+     */
+    public BulkJob submitDelete(List<Long> postIds, String reason, String adminEmail) {
+        return submit("DELETE", postIds, adminEmail,
+                chunk -> postingService.deletePostChunk(chunk, reason, adminEmail));
+    }
+
+    public BulkJob getJob(String jobId) {
+        return jobsById.get(jobId);
+    }
+
+    /**
+     * Tracked jobs, newest first
+     */
+    public List<BulkJob> getJobs() {
+        return jobsById.values().stream()
+                .sorted(Comparator.comparing(BulkJob::getCreatedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Forget jobs that finished more than an hour ago, every 10 minutes
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void evictFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - FINISHED_JOB_RETENTION_MS;
+        jobsById.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().getTime() < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private BulkJob submit(String type, List<Long> postIds, String adminEmail, Function<List<Long>, Integer> chunkAction) {
+        List<Long> ids = postIds.stream().distinct().collect(Collectors.toList());
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), type, adminEmail, ids.size());
+        jobsById.put(job.getJobId(), job);
+        executor.submit(() -> run(job, ids, chunkAction));
+        log.info("📋 Queued bulk {} job {} for {} posts by admin {}", type, job.getJobId(), ids.size(), adminEmail);
+        return job;
+    }
+
+    private void run(BulkJob job, List<Long> ids, Function<List<Long>, Integer> chunkAction) {
+        job.start();
+        try {
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = new ArrayList<>(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                job.chunkDone(chunk.size(), chunkAction.apply(chunk));
+            }
+            job.finish(null);
+            log.info("✅ Bulk {} job {} completed: {} of {} posts affected",
+                    job.getType(), job.getJobId(), job.getAffected(), job.getTotal());
+        } catch (Exception e) {
+            // Chunks already committed stay applied; processed shows how far the job got
+            job.finish(e.getMessage());
+            log.error("❌ Bulk {} job {} failed after {} of {} posts: {}",
+                    job.getType(), job.getJobId(), job.getProcessed(), job.getTotal(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Progress of one bulk job. Written by the worker thread only.
+     */
+    @Getter
+    public static class BulkJob {
+        private final String jobId;
+        private final String type;
+        private final String adminEmail;
+        private final int total;
+        private final Date createdAt = new Date();
+        private volatile String status = "QUEUED";
+        // Posts handled so far, and how many of them were actually changed (unknown IDs are skipped)
+        private volatile int processed;
+        private volatile int affected;
+        private volatile Date startedAt;
+        private volatile Date finishedAt;
+        private volatile String error;
+
+        BulkJob(String jobId, String type, String adminEmail, int total) {
+            this.jobId = jobId;
+            this.type = type;
+            this.adminEmail = adminEmail;
+            this.total = total;
+        }
+
+        public int getPercentComplete() {
+            return total == 0 ? 100 : (int) (processed * 100L / total);
+        }
+
+        void start() {
+            startedAt = new Date();
+            status = "RUNNING";
+        }
+
+        void chunkDone(int chunkSize, int chunkAffected) {
+            processed += chunkSize;
+            affected += chunkAffected;
+        }
+
+        void finish(String failure) {
+            error = failure;
+            finishedAt = new Date();
+            status = failure == null ? "COMPLETED" : "FAILED";
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.auto.postings.model.PostStatus;
 import com.auto.postings.repository.CounterOfferRepository;
 import com.auto.postings.repository.DealerCounterOfferActionRepository;
 import com.auto.postings.repository.PostingRepository;
+import com.auto.postings.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -257,8 +258,9 @@ public class CounterOfferService {
                 throw new IllegalArgumentException("Counter offer requested amount cannot be null or empty");
             }
 
-            // ENHANCED RACE CONDITION CHECK: Re-verify post is still available with pessimistic lock
-            Optional<Posting> postOpt = postingRepository.findByIdWithLock(acceptedOffer.getPostId());
+            // Fast-fail check without a row lock; the conditional UPDATE in acceptPostDirectly decides
+            // the race if another acceptance lands between this read and that update
+            Optional<Posting> postOpt = postingRepository.findById(acceptedOffer.getPostId());
             if (postOpt.isEmpty()) {
                 throw new IllegalStateException("Post not found for counter offer acceptance: " + acceptedOffer.getPostId());
             }
@@ -319,31 +321,34 @@ public class CounterOfferService {
             // 3. Reject other pending offers for this post (auto-rejection feature)
             rejectOtherPendingOffers(acceptedOffer.getPostId(), acceptedOffer.getId());
 
-            // 4. 🔄 CROSS-SERVICE SYNC: Notify technician service about the acceptance
-            try {
-                Map<String, Object> acceptanceData = new HashMap<>();
-                acceptanceData.put("counterOfferId", acceptedOffer.getId());
-                acceptanceData.put("postId", acceptedOffer.getPostId());
-                acceptanceData.put("technicianEmail", acceptedOffer.getTechnicianEmail());
-                acceptanceData.put("dealerResponseAt", acceptedOffer.getDealerResponseAt());
-                acceptanceData.put("dealerResponseNotes", acceptedOffer.getDealerResponseNotes());
-                acceptanceData.put("acceptedAmount", acceptedOffer.getRequestedOfferAmount());
-
-                log.info("Notifying technician service about counter offer acceptance: {}", acceptedOffer.getId());
-                Map<String, Object> syncResult = technicianClient.notifyCounterOfferAcceptance(
-                    acceptedOffer.getId(), acceptanceData);
+            // 4. 🔄 CROSS-SERVICE SYNC: Notify technician service about the acceptance once committed,
+            // so the Feign call does not hold the accepted post's row lock
+            AfterCommit.run(() -> {
+                try {
+                    Map<String, Object> acceptanceData = new HashMap<>();
+                    acceptanceData.put("counterOfferId", acceptedOffer.getId());
+                    acceptanceData.put("postId", acceptedOffer.getPostId());
+                    acceptanceData.put("technicianEmail", acceptedOffer.getTechnicianEmail());
+                    acceptanceData.put("dealerResponseAt", acceptedOffer.getDealerResponseAt());
+                    acceptanceData.put("dealerResponseNotes", acceptedOffer.getDealerResponseNotes());
+                    acceptanceData.put("acceptedAmount", acceptedOffer.getRequestedOfferAmount());
+
+                    log.info("Notifying technician service about counter offer acceptance: {}", acceptedOffer.getId());
+                    Map<String, Object> syncResult = technicianClient.notifyCounterOfferAcceptance(
+                        acceptedOffer.getId(), acceptanceData);
                 
-                if (syncResult != null && Boolean.TRUE.equals(syncResult.get("success"))) {
-                    log.info("Successfully synced acceptance to technician service for counter offer: {}", acceptedOffer.getId());
-                } else {
-                    log.warn("Failed to sync acceptance to technician service for counter offer: {} - Response: {}", 
-                            acceptedOffer.getId(), syncResult);
+                    if (syncResult != null && Boolean.TRUE.equals(syncResult.get("success"))) {
+                        log.info("Successfully synced acceptance to technician service for counter offer: {}", acceptedOffer.getId());
+                    } else {
+                        log.warn("Failed to sync acceptance to technician service for counter offer: {} - Response: {}", 
+                                acceptedOffer.getId(), syncResult);
+                    }
+                } catch (Exception syncException) {
+                    log.error("Error syncing acceptance to technician service for counter offer {}: {}", 
+                             acceptedOffer.getId(), syncException.getMessage());
+                    // Don't fail the main acceptance process if sync fails
                 }
-            } catch (Exception syncException) {
-                log.error("Error syncing acceptance to technician service for counter offer {}: {}", 
-                         acceptedOffer.getId(), syncException.getMessage());
-                // Don't fail the main acceptance process if sync fails
-            }
+            });
 
             log.info("Successfully processed accepted counter offer for post {} by technician {} with amount {}", 
                    acceptedOffer.getPostId(), acceptedOffer.getTechnicianEmail(), acceptedOffer.getRequestedOfferAmount());
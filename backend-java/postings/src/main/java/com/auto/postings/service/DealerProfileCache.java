@@ -0,0 +1,146 @@
+package com.auto.postings.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.auto.postings.client.DealerClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dealer name/phone/zipcode copied onto new postings, cached with a TTL and a size bound so
+ * posting creation does not call the dealer service every time. The dealer service evicts an
+ * entry when the profile changes (DELETE /cache/dealer-profile/{email}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DealerProfileCache {
+
+    private final DealerClient dealerClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${postings.dealer-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${postings.dealer-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, DealerProfile> profilesByEmail = new ConcurrentHashMap<>();
+    // Bumped on every eviction so a load that raced with a profile update is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = meterRegistry.counter("postings.dealer.cache", "result", "hit");
+        misses = meterRegistry.counter("postings.dealer.cache", "result", "miss");
+        meterRegistry.gaugeMapSize("postings.dealer.cache.size", Tags.empty(), profilesByEmail);
+    }
+
+    /**
+     * Cached or freshly loaded dealer profile. On a load failure a stale entry is served if present,
+     * otherwise null (the posting is saved without dealer details, as before).
+     */
+    public DealerProfile getProfile(String email) {
+        String key = normalize(email);
+        long now = System.currentTimeMillis();
+        DealerProfile cached = profilesByEmail.get(key);
+        if (cached != null && now - cached.getLoadedAt() < ttlMs) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long evictionsBeforeLoad = evictions.get();
+        try {
+            DealerProfile loaded = load(email, now);
+            if (evictions.get() != evictionsBeforeLoad) {
+                return loaded;
+            }
+            if (profilesByEmail.size() >= maxSize && !profilesByEmail.containsKey(key)) {
+                makeRoom();
+            }
+            profilesByEmail.put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            log.warn("⚠️ [DealerProfileCache] Failed to fetch dealer profile for {}: {}", email, e.getMessage());
+            return cached;
+        }
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        evictions.incrementAndGet();
+        if (profilesByEmail.remove(normalize(email)) != null) {
+            log.info("🔄 [DealerProfileCache] Evicted dealer profile for {}", email);
+        }
+    }
+
+    /**
+     * Drop expired profiles every 10 minutes so inactive dealers do not accumulate
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        profilesByEmail.values().removeIf(profile -> profile.getLoadedAt() < cutoff);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DealerProfile load(String email, long now) {
+        String name = null;
+        String phone = null;
+        String zipcode = null;
+        Map<String, Object> response = dealerClient.getDealerProfile(email);
+        if (response != null && response.get("data") instanceof Map) {
+            Map<String, Object> dealerData = (Map<String, Object>) response.get("data");
+            name = (String) dealerData.get("name");
+            phone = (String) dealerData.get("phone");
+            if (dealerData.get("zipcode") != null) {
+                zipcode = String.valueOf(dealerData.get("zipcode")).trim();
+            }
+        }
+        return new DealerProfile(name, phone, zipcode, now);
+    }
+
+    /**
+     * Full cache: drop expired entries, or the oldest one if none have expired
+     */
+    private void makeRoom() {
+        evictExpired();
+        if (profilesByEmail.size() < maxSize) {
+            return;
+        }
+        profilesByEmail.entrySet().stream()
+                .min((a, b) -> Long.compare(a.getValue().getLoadedAt(), b.getValue().getLoadedAt()))
+                .ifPresent(oldest -> profilesByEmail.remove(oldest.getKey()));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DealerProfile {
+        private final String name;
+        private final String phone;
+        private final String zipcode;
+        private final long loadedAt;
+    }
+}
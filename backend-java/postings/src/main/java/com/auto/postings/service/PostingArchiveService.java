@@ -0,0 +1,101 @@
+package com.auto.postings.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auto.postings.repository.PostingHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lifecycle archiver: moves DELETED, COMPLETED and CANCELLED postings that have not been touched
+ * for a configurable number of days from posting_dashboard into the partitioned posting_history
+ * table. Active-feed queries and indexes then only cover live postings.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostingArchiveService {
+
+    private final PostingHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${postings.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${postings.archive.min-age-days:90}")
+    private int minAgeDays;
+
+    @Value("${postings.archive.batch-size:500}")
+    private int batchSize;
+
+    // Years whose posting_history partition is known to exist
+    private final Set<Integer> partitionYears = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Archive old terminal postings daily at 4 AM, after the change-log prune and stats reconcile
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archiveOlderThan(minAgeDays);
+        } catch (Exception e) {
+            log.error("❌ Error archiving terminal postings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive terminal postings last updated more than days ago. Each batch is its own short
+     * transaction, so live traffic only ever waits on one batch of rows. Returns the number archived.
+     */
+    public int archiveOlderThan(int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("Archive age must be at least 1 day");
+        }
+        Timestamp cutoff = new Timestamp(System.currentTimeMillis() - days * 24L * 60 * 60 * 1000);
+        int total = 0;
+        int moved;
+        do {
+            List<Integer> createdPartitions = new ArrayList<>();
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff, createdPartitions));
+            // Partition DDL is transactional, so only remember it once the batch committed
+            partitionYears.addAll(createdPartitions);
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("📦 Archived {} terminal postings older than {} days", total, days);
+        }
+        return total;
+    }
+
+    private int archiveBatch(Timestamp cutoff, List<Integer> createdPartitions) {
+        List<PostingHistoryRepository.Candidate> candidates = historyRepository.lockCandidates(cutoff, batchSize);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(candidates.size());
+        for (PostingHistoryRepository.Candidate candidate : candidates) {
+            ids.add(candidate.getId());
+            // Rows without created_at land in the default partition
+            Integer year = candidate.getCreatedYear();
+            if (year != null && !partitionYears.contains(year) && !createdPartitions.contains(year)) {
+                historyRepository.ensureYearPartition(year);
+                createdPartitions.add(year);
+            }
+        }
+        return historyRepository.moveToHistory(ids);
+    }
+}
@@ -0,0 +1,152 @@
+package com.auto.postings.service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auto.postings.dto.PostingChangeDto;
+import com.auto.postings.dto.PostingChangesResponseDto;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+import com.auto.postings.model.PostingChange;
+import com.auto.postings.repository.PostingChangeBatchRepository;
+import com.auto.postings.repository.PostingChangeRepository;
+import com.auto.postings.repository.PostingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records every create/update/accept/delete of a Posting in the append-only
+ * posting_change_log and serves "changes since position" deltas. The position is the ID of the
+ * transaction that wrote a change, and only transactions below the oldest one still in flight are
+ * served, so a change that commits late can never land behind a reader's position.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostingChangeLogService {
+
+    public static final int MAX_CHANGES_PER_REQUEST = 500;
+
+    private final PostingChangeRepository changeRepository;
+    private final PostingChangeBatchRepository changeBatchRepository;
+    private final PostingRepository postingRepository;
+    private final PostingDailyStatsService dailyStatsService;
+
+    @Value("${postings.change-log.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * Append a change for the posting, in the caller's transaction: if the change cannot be
+     * recorded the posting write rolls back with it, so the log never silently misses a change.
+     * Every posting mutation funnels through here, so it also keeps the daily stats rollup current.
+     * Fails when called outside a transaction rather than committing the log apart from the write.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Posting posting, PostingChange.ChangeType changeType) {
+        if (posting == null || posting.getId() == null) {
+            return;
+        }
+        // DELETED without a DELETED status is the admin hard delete
+        boolean hardDeleted = changeType == PostingChange.ChangeType.DELETED && posting.getStatus() != PostStatus.DELETED;
+        dailyStatsService.applyTransition(posting, hardDeleted);
+        changeRepository.save(toChange(posting, changeType, new Date()));
+    }
+
+    /**
+     * Batch form of record for bulk operations (admin actions, tech-dashboard sync): one stats pass and JDBC-batched log inserts
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<Posting> postings, PostingChange.ChangeType changeType) {
+        if (postings.isEmpty()) {
+            return;
+        }
+        // Bulk deletes are always hard deletes (see record)
+        dailyStatsService.applyTransitions(postings, changeType == PostingChange.ChangeType.DELETED);
+        Date changedAt = new Date();
+        changeBatchRepository.insertAll(postings.stream()
+                .map(posting -> toChange(posting, changeType, changedAt))
+                .collect(Collectors.toList()));
+    }
+
+    private static PostingChange toChange(Posting posting, PostingChange.ChangeType changeType, Date changedAt) {
+        return PostingChange.builder()
+                .postId(posting.getId())
+                .changeType(changeType)
+                .status(posting.getStatus())
+                .location(posting.getLocation())
+                .changedAt(changedAt)
+                .build();
+    }
+
+    /**
+     * Changes written by transactions after position since, oldest first. A page always holds whole
+     * transactions, so a client can move its position to the last change's seq. latestSeq is the
+     * position everything committed so far has been served up to.
+     */
+    public PostingChangesResponseDto getChangesSince(long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PER_REQUEST));
+        long watermark = changeRepository.findCommitWatermark();
+        long latestSeq = watermark - 1;
+
+        // Retention removed changes after the client's position - it cannot catch up incrementally
+        Long prunedThrough = changeRepository.findPrunedThrough();
+        if (prunedThrough != null && since < prunedThrough) {
+            return new PostingChangesResponseDto(List.of(), latestSeq, false, true);
+        }
+
+        List<PostingChange> changes = changeRepository.findCommittedAfter(since, watermark, pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            // Cut before the transaction that did not fit; a single oversized transaction is served whole
+            long cutTxid = changes.get(pageSize).getTxid();
+            List<PostingChange> whole = changes.stream()
+                    .filter(c -> c.getTxid() != cutTxid)
+                    .collect(Collectors.toList());
+            changes = whole.isEmpty() ? changeRepository.findByTxid(cutTxid) : whole;
+        }
+
+        // Attach the current state of every touched posting with a single query
+        List<Long> postIds = changes.stream().map(PostingChange::getPostId).distinct().collect(Collectors.toList());
+        Map<Long, Posting> postsById = postingRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Posting::getId, Function.identity()));
+
+        List<PostingChangeDto> deltas = changes.stream()
+                .map(c -> new PostingChangeDto(c.getTxid(), c.getPostId(), c.getChangeType().name(),
+                        c.getChangedAt(), postsById.get(c.getPostId())))
+                .collect(Collectors.toList());
+
+        return new PostingChangesResponseDto(deltas, latestSeq, hasMore, false);
+    }
+
+    public long getLatestSeq() {
+        return changeRepository.findCommitWatermark() - 1;
+    }
+
+    /**
+     * Prune change-log entries past the retention window daily at 3 AM
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    @Transactional
+    public void pruneOldChanges() {
+        try {
+            Date cutoff = new Date(System.currentTimeMillis() - retentionDays * 24L * 60 * 60 * 1000);
+            changeRepository.markPrunedBefore(cutoff);
+            int deleted = changeRepository.deleteByChangedAtBefore(cutoff);
+            if (deleted > 0) {
+                log.info("Pruned {} posting change-log entries older than {} days", deleted, retentionDays);
+            }
+        } catch (Exception e) {
+            log.error("Error pruning posting change log: {}", e.getMessage());
+        }
+    }
+}
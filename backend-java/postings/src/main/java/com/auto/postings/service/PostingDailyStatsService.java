@@ -0,0 +1,178 @@
+package com.auto.postings.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+import com.auto.postings.model.PostingDailyStats;
+import com.auto.postings.repository.PostingDailyStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the posting_daily_stats rollup (posts created per day x location x current status)
+ * and answers admin statistics from it, so dashboards never scan posting_dashboard.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostingDailyStatsService {
+
+    private static final int TOP_LOCATIONS = 10;
+    // Open-ended range for all-time totals
+    private static final LocalDate ALL_TIME_FROM = LocalDate.EPOCH;
+    private static final LocalDate ALL_TIME_TO = LocalDate.of(9999, 12, 31);
+
+    private final PostingDailyStatsRepository statsRepository;
+
+    @Value("${postings.daily-stats.reconcile-days:7}")
+    private int reconcileDays;
+
+    /**
+     * Move the post from the bucket it is counted under to the bucket of its current state.
+     * A hard-deleted post only leaves its bucket. No-op when nothing relevant changed.
+     * Runs in the transaction that writes the posting, so the counts roll back with it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyTransition(Posting posting, boolean hardDeleted) {
+        applyTransitions(List.of(posting), hardDeleted);
+    }
+
+    /**
+     * applyTransition for many posts at once. Deltas are summed per bucket first, so a bulk
+     * operation moving thousands of posts between the same buckets costs a handful of upserts.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyTransitions(List<Posting> postings, boolean hardDeleted) {
+        // (day, location, status) -> delta
+        Map<List<Object>, Long> deltas = new HashMap<>();
+        for (Posting posting : postings) {
+            String newStatus = hardDeleted ? null : PostingDailyStats.statusKey(posting.getStatus());
+            String newLocation = hardDeleted ? null : PostingDailyStats.locationKey(posting.getLocation());
+            String oldStatus = posting.getCountedStatus();
+            String oldLocation = posting.getCountedLocation();
+            if (Objects.equals(oldStatus, newStatus) && Objects.equals(oldLocation, newLocation)) {
+                continue;
+            }
+
+            LocalDate day = PostingDailyStats.dayOf(posting.getCreatedAt());
+            if (oldStatus != null) {
+                deltas.merge(List.of(day, oldLocation, oldStatus), -1L, Long::sum);
+            }
+            if (newStatus != null) {
+                deltas.merge(List.of(day, newLocation, newStatus), 1L, Long::sum);
+            }
+            posting.setCountedStatus(newStatus);
+            posting.setCountedLocation(newLocation);
+        }
+        deltas.forEach((bucket, delta) -> {
+            if (delta != 0) {
+                statsRepository.addToBucket((LocalDate) bucket.get(0), (String) bucket.get(1), (String) bucket.get(2), delta);
+            }
+        });
+    }
+
+    /**
+     * Status histogram, daily trend and busiest locations for an inclusive day range.
+     * Null bounds are open-ended; an empty location covers all locations.
+     */
+    public Map<String, Object> getStatistics(LocalDate from, LocalDate to, String location) {
+        LocalDate rangeFrom = from != null ? from : ALL_TIME_FROM;
+        LocalDate rangeTo = to != null ? to : ALL_TIME_TO;
+        String locationFilter = PostingDailyStats.locationKey(location);
+
+        Map<String, Long> statusCounts = emptyStatusCounts();
+        long total = 0;
+        for (Object[] row : statsRepository.sumByStatus(rangeFrom, rangeTo, locationFilter)) {
+            long count = ((Number) row[1]).longValue();
+            statusCounts.merge((String) row[0], count, Long::sum);
+            total += count;
+        }
+
+        // day -> status counts; days without postings are omitted
+        Map<LocalDate, Map<String, Long>> byDay = new TreeMap<>();
+        for (Object[] row : statsRepository.sumByDayAndStatus(rangeFrom, rangeTo, locationFilter)) {
+            byDay.computeIfAbsent((LocalDate) row[0], day -> new LinkedHashMap<>())
+                    .put((String) row[1], ((Number) row[2]).longValue());
+        }
+        List<Map<String, Object>> daily = new ArrayList<>(byDay.size());
+        for (Map.Entry<LocalDate, Map<String, Long>> entry : byDay.entrySet()) {
+            long dayTotal = entry.getValue().values().stream().mapToLong(Long::longValue).sum();
+            daily.add(Map.of("date", entry.getKey().toString(), "total", dayTotal, "statusCounts", entry.getValue()));
+        }
+
+        List<Map<String, Object>> topLocations = new ArrayList<>();
+        if (locationFilter.isEmpty()) {
+            for (Object[] row : statsRepository.sumByLocation(rangeFrom, rangeTo, PageRequest.of(0, TOP_LOCATIONS))) {
+                topLocations.add(Map.of("location", row[0], "count", ((Number) row[1]).longValue()));
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total);
+        stats.put("statusCounts", statusCounts);
+        stats.put("daily", daily);
+        stats.put("topLocations", topLocations);
+        return stats;
+    }
+
+    /**
+     * Number of postings created in an inclusive day range
+     */
+    public long countCreatedBetween(LocalDate from, LocalDate to) {
+        return statsRepository.sumPostCount(from, to);
+    }
+
+    /**
+     * Recompute the most recent days from posting_dashboard and its archive nightly at 3:30 AM, as a safety net
+     * for increments lost to failed writes
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    @Transactional
+    public void scheduledReconcile() {
+        try {
+            LocalDate today = LocalDate.now(PostingDailyStats.STATS_ZONE);
+            reconcile(today.minusDays(reconcileDays), today);
+        } catch (Exception e) {
+            log.error("❌ Error reconciling posting daily stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the rollup buckets for an inclusive range of PostingDailyStats.STATS_ZONE days
+     */
+    @Transactional
+    public void reconcile(LocalDate from, LocalDate to) {
+        statsRepository.deleteDays(from, to.plusDays(1));
+        int buckets = statsRepository.rebuildDays(startOf(from), startOf(to.plusDays(1)));
+        log.info("🔄 Rebuilt {} posting daily stats buckets for {} to {}", buckets, from, to);
+    }
+
+    private static Date startOf(LocalDate day) {
+        return Date.from(day.atStartOfDay(PostingDailyStats.STATS_ZONE).toInstant());
+    }
+
+    private static Map<String, Long> emptyStatusCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (PostStatus status : PostStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+}
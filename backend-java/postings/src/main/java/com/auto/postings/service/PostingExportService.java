@@ -0,0 +1,120 @@
+package com.auto.postings.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auto.postings.dto.PostingExportFilter;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+import com.auto.postings.repository.PostingRepository;
+import com.auto.postings.util.CsvWriter;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin CSV export of postings. Rows are read through a database cursor and written
+ * straight to the response, so memory use does not grow with the number of postings.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostingExportService {
+
+    private static final String[] CSV_HEADER = {
+            "ID", "Email", "Content", "Location", "OfferAmount", "Status", "CreatedAt", "UpdatedAt" };
+
+    // Open-ended date bounds
+    private static final Date MIN_DATE = new Date(0L);
+    private static final Date MAX_DATE = Date.from(LocalDate.of(9999, 12, 31).atStartOfDay(ZoneId.of("UTC")).toInstant());
+
+    private final PostingRepository repo;
+    private final EntityManager entityManager;
+
+    /**
+     * Validate export parameters before the response starts streaming, so bad input can still get a 400.
+     * dateFrom/dateTo are optional inclusive YYYY-MM-DD days.
+     */
+    public PostingExportFilter resolveFilter(String format, String status, String dateFrom, String dateTo,
+                                             boolean includeHistory) {
+        if (format != null && !format.trim().isEmpty() && !"csv".equalsIgnoreCase(format.trim())) {
+            throw new IllegalArgumentException("Only CSV format is supported. Requested format: " + format);
+        }
+
+        String statusFilter = "";
+        if (status != null && !status.trim().isEmpty()) {
+            try {
+                statusFilter = PostStatus.valueOf(status.trim().toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status value: " + status + ". Valid values: " +
+                        Arrays.stream(PostStatus.values()).map(Enum::name).collect(Collectors.joining(", ")));
+            }
+        }
+
+        Date createdFrom = isBlank(dateFrom) ? MIN_DATE : startOfDay(parseDate(dateFrom));
+        Date createdTo = isBlank(dateTo) ? MAX_DATE
+                : new Date(startOfDay(parseDate(dateTo).plusDays(1)).getTime() - 1);
+        if (createdFrom.after(createdTo)) {
+            throw new IllegalArgumentException("dateFrom must not be after dateTo");
+        }
+        return new PostingExportFilter(statusFilter, createdFrom, createdTo, includeHistory);
+    }
+
+    /**
+     * Write every posting matching the filter as CSV, oldest first. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long writeCsv(PostingExportFilter filter, Writer out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.writeRow((Object[]) CSV_HEADER);
+
+        long rows = 0;
+        try (Stream<Posting> posts = filter.isIncludeHistory()
+                ? repo.streamForExportWithHistory(filter.getStatus(), filter.getCreatedFrom(), filter.getCreatedTo())
+                : repo.streamForExport(filter.getStatus(), filter.getCreatedFrom(), filter.getCreatedTo())) {
+            Iterator<Posting> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Posting post = iterator.next();
+                csv.writeRow(post.getId(), post.getEmail(), post.getContent(), post.getLocation(),
+                        post.getOfferAmount(), post.getStatus(), isoInstant(post.getCreatedAt()),
+                        isoInstant(post.getUpdatedAt()));
+                // Keep the persistence context from accumulating every exported row
+                entityManager.detach(post);
+                rows++;
+            }
+        }
+        log.info("📤 Exported {} posts as CSV (status: '{}', includeHistory: {})", rows, filter.getStatus(), filter.isIncludeHistory());
+        return rows;
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD format");
+        }
+    }
+
+    private static Date startOfDay(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static String isoInstant(Date date) {
+        return date == null ? null : date.toInstant().toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -1,22 +1,35 @@
 package com.auto.postings.service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import com.auto.postings.model.AcceptedPost;
+import com.auto.postings.repository.AcceptedPostBatchRepository;
 import com.auto.postings.repository.AcceptedPostRepository;
 
-import com.auto.postings.client.DealerClient;
 import com.auto.postings.client.TechnicianClient;
 import com.auto.postings.dto.DealerAcceptedPostUpdateFromTechDashDto;
 import com.auto.postings.dto.DealerDTO;
@@ -24,8 +37,16 @@ import com.auto.postings.dto.DeletePostRequestByIdDto;
 import com.auto.postings.dto.EditPostRequestDto;
 import com.auto.postings.dto.GetAllPostsByEmailRequestDto;
 import com.auto.postings.dto.GetByFiltersDto;
+import com.auto.postings.dto.PostingFeedPageDto;
+import com.auto.postings.dto.PostingFeedView;
+import com.auto.postings.dto.PostingSummaryView;
+import com.auto.postings.dto.PostingView;
 import com.auto.postings.model.PostStatus;
 import com.auto.postings.model.Posting;
+import com.auto.postings.model.PostingChange;
+import com.auto.postings.util.AfterCommit;
+import com.auto.postings.util.OfferAmounts;
+import com.auto.postings.util.SearchQueries;
 import com.auto.postings.repository.PostingRepository;
 import com.auto.postings.webSocket.WebSocketDealerNotifier;
 
@@ -36,38 +57,32 @@ import lombok.RequiredArgsConstructor;
 @Slf4j
 public class PostingService {
 
-	 private final DealerClient dealerClient;
+	public static final int MAX_FEED_PAGE_SIZE = 200;
+
+	 private final DealerProfileCache dealerProfileCache;
 	 private final TechnicianClient technicianClient;
 	    private final PostingRepository repo;
 	    private final WebSocketDealerNotifier webSocketDealerNotifier; // ✅ Inject
 	    private final AcceptedPostRepository acceptedPostRepository;
+	    private final PostingChangeLogService changeLogService;
+	    private final PostingDailyStatsService dailyStatsService;
+	    private final AcceptedPostBatchRepository acceptedPostBatchRepository;
+	    private final TransactionTemplate transactionTemplate;
+	    private final MeterRegistry meterRegistry;
 
 	    public Posting savePosting(String email, String content, String location, String offerAmount, PostStatus status, String vin, String auctionLot) {
-        // Fetch full dealer profile to get phone number
-        log.info("🔖 [PostingService] Fetching dealer profile for email: {}", email);
-        Map<String, Object> dealerProfile = null;
+        // Dealer name/phone/zipcode from the local profile cache; the dealer service is only called on a miss
         String dealerPhone = null;
         String dealerName = null;
-        
-        try {
-            dealerProfile = dealerClient.getDealerProfile(email);
-            log.info("🔖 [PostingService] Dealer profile response: {}", dealerProfile);
-            
-            if (dealerProfile != null && dealerProfile.containsKey("data")) {
-                Map<String, Object> dealerData = (Map<String, Object>) dealerProfile.get("data");
-                if (dealerData != null) {
-                    if (dealerData.containsKey("phone")) {
-                        dealerPhone = (String) dealerData.get("phone");
-                    }
-                    if (dealerData.containsKey("name")) {
-                        dealerName = (String) dealerData.get("name");
-                    }
-                }
-            }
-            log.info("🔖 [PostingService] Extracted dealer info - Name: {}, Phone: {}", dealerName, dealerPhone);
-        } catch (Exception e) {
-            log.warn("⚠️ [PostingService] Failed to fetch dealer profile, proceeding without: {}", e.getMessage());
-            // Continue without dealer profile - post will still be saved
+        String dealerZipcode = null;
+        DealerProfileCache.DealerProfile dealerProfile = dealerProfileCache.getProfile(email);
+        if (dealerProfile != null) {
+            dealerPhone = dealerProfile.getPhone();
+            dealerName = dealerProfile.getName();
+            dealerZipcode = dealerProfile.getZipcode();
+            log.info("🔖 [PostingService] Dealer info - Name: {}, Phone: {}", dealerName, dealerPhone);
+        } else {
+            log.warn("⚠️ [PostingService] Dealer profile unavailable for {}, proceeding without", email);
         }
 
 	        Posting posting = new Posting();
@@ -80,56 +95,100 @@ public class PostingService {
 	        posting.setStatus(status);
 	        posting.setVin(vin);
 	        posting.setAuctionLot(auctionLot);
+	        posting.setZipcode(dealerZipcode);
 	        posting.setCreatedAt(new Date());
 
-	        Posting saved = repo.save(posting);
+	        Posting saved = saveAndRecord(posting, PostingChange.ChangeType.CREATED);
 
-	        // ✅ Send real-time WebSocket broadcast to technicians
+	        // ✅ Send real-time WebSocket broadcast to technicians (the post is committed by now)
 	        webSocketDealerNotifier.notifyNewPost(saved);
 
 	        return saved;
 	    }
 
+	    /**
+	     * Save the posting and its change-log entry (and daily stats) in one transaction, so a failed
+	     * record also undoes the posting write. Remote lookups stay outside it.
+	     */
+	    private Posting saveAndRecord(Posting posting, PostingChange.ChangeType type) {
+	        return transactionTemplate.execute(status -> {
+	            Posting saved = repo.save(posting);
+	            changeLogService.record(saved, type);
+	            return saved;
+	        });
+	    }
+
+	    /**
+	     * Apply a batch of accepted-post updates from tech-dashboard. Targets are loaded with one query,
+	     * posting updates are flushed as JDBC batches (hibernate.jdbc.batch_size) and accepted_posts
+	     * rows are batch-inserted. Notifications go out only after the batch commits.
+	     */
 	    public List<Posting> saveMultiplePostings(List<DealerAcceptedPostUpdateFromTechDashDto> postDtos) {
-	        List<Posting> updatedPostings = new ArrayList<>();
+	        Timer.Sample sample = Timer.start(meterRegistry);
+	        List<Posting> saved = transactionTemplate.execute(status -> applyTechDashUpdates(postDtos));
 
+	        long elapsedNanos = sample.stop(meterRegistry.timer("postings.techdash.sync"));
+	        meterRegistry.counter("postings.techdash.sync.items").increment(saved.size());
+	        log.info("✅ Synced {} of {} tech-dashboard post updates in {} ms ({} µs/post)", saved.size(), postDtos.size(),
+	                elapsedNanos / 1_000_000, saved.isEmpty() ? 0 : elapsedNanos / 1_000 / saved.size());
+
+	        for (Posting p : saved) {
+	            if (p.getStatus() == PostStatus.ACCEPTED) {
+	                webSocketDealerNotifier.notifyPostAccepted(p.getId());
+	            }
+	        }
+	        return saved;
+	    }
+
+	    private List<Posting> applyTechDashUpdates(List<DealerAcceptedPostUpdateFromTechDashDto> postDtos) {
+	        List<Long> postIds = postDtos.stream().map(DealerAcceptedPostUpdateFromTechDashDto::getPostId).distinct().collect(Collectors.toList());
+	        Map<Long, Posting> postsById = repo.findAllById(postIds).stream()
+	                .collect(Collectors.toMap(Posting::getId, post -> post));
+
+	        List<Long> acceptedPostIds = postDtos.stream()
+	                .filter(dto -> dto.getStatus() == PostStatus.ACCEPTED && dto.getTechnicianEmail() != null)
+	                .map(DealerAcceptedPostUpdateFromTechDashDto::getPostId)
+	                .collect(Collectors.toList());
+	        Set<Long> alreadyAccepted = acceptedPostIds.isEmpty() ? new HashSet<>()
+	                : new HashSet<>(acceptedPostRepository.findAcceptedPostIdsIn(acceptedPostIds));
+
+	        // Keyed by post ID so a post repeated in the batch is updated and inserted once (last update wins)
+	        Map<Long, Posting> updatedPostings = new LinkedHashMap<>();
+	        List<AcceptedPost> newAcceptedPosts = new ArrayList<>();
 	        for (DealerAcceptedPostUpdateFromTechDashDto dto : postDtos) {
-	            Optional<Posting> optionalPost = repo.findById(dto.getPostId());
-
-	            if (optionalPost.isPresent()) {
-	                Posting post = optionalPost.get();
-	                post.setStatus(dto.getStatus());
-	                post.setAcceptedAt(dto.getAcceptedAt());  
-	                post.setTechnicianEmail(dto.getTechnicianEmail());
-	                post.setTechnicianName(dto.getTechnicianName());
-	                post.setTechnicianPhone(dto.getTechnicianPhone());
-	                post.setExpectedCompletionBy(dto.getExpectedCompletionBy());
-	                
-	                // ✅ Save to accepted_posts table if status is ACCEPTED
-	                if (dto.getStatus() == PostStatus.ACCEPTED && dto.getTechnicianEmail() != null) {
-	                    try {
-	                        saveToAcceptedPostsTable(
-	                            dto.getPostId(), 
-	                            dto.getTechnicianEmail(), 
-	                            post.getOfferAmount(), 
-	                            "Post accepted by technician: " + dto.getTechnicianName()
-	                        );
-	                        log.info("✅ Saved to accepted_posts table for post: {}", dto.getPostId());
-	                    } catch (Exception e) {
-	                        log.error("❌ Failed to save to accepted_posts table for post {}: {}", dto.getPostId(), e.getMessage());
-	                        // Don't fail the entire operation if accepted_posts save fails
-	                    }
-	                }
-	               
-	                updatedPostings.add(post);
-	            } else {
-	                System.out.println("Post ID not found: " + dto.getPostId());
+	            Posting post = postsById.get(dto.getPostId());
+	            if (post == null) {
+	                log.warn("Post ID not found: {}", dto.getPostId());
+	                continue;
 	            }
+	            post.setStatus(dto.getStatus());
+	            post.setAcceptedAt(dto.getAcceptedAt());
+	            post.setTechnicianEmail(dto.getTechnicianEmail());
+	            post.setTechnicianName(dto.getTechnicianName());
+	            post.setTechnicianPhone(dto.getTechnicianPhone());
+	            post.setExpectedCompletionBy(dto.getExpectedCompletionBy());
+
+	            // ✅ Save to accepted_posts table if status is ACCEPTED
+	            if (dto.getStatus() == PostStatus.ACCEPTED && dto.getTechnicianEmail() != null
+	                    && alreadyAccepted.add(dto.getPostId())) {
+	                newAcceptedPosts.add(new AcceptedPost(dto.getPostId(), dto.getTechnicianEmail(),
+	                        post.getOfferAmount(), "Post accepted by technician: " + dto.getTechnicianName()));
+	            }
+	            updatedPostings.put(post.getId(), post);
 	        }
-	        
-	        
 
-	        return repo.saveAll(updatedPostings);
+	        // Managed entities: the update statements are batched on flush
+	        repo.saveAll(updatedPostings.values());
+	        repo.flush();
+	        acceptedPostBatchRepository.insertAll(newAcceptedPosts);
+	        log.info("✅ Saved {} accepted_posts records in batch", newAcceptedPosts.size());
+
+	        List<Posting> saved = new ArrayList<>(updatedPostings.values());
+	        Map<Boolean, List<Posting>> byAccepted = saved.stream()
+	                .collect(Collectors.partitioningBy(p -> p.getStatus() == PostStatus.ACCEPTED));
+	        changeLogService.recordAll(byAccepted.get(true), PostingChange.ChangeType.ACCEPTED);
+	        changeLogService.recordAll(byAccepted.get(false), PostingChange.ChangeType.UPDATED);
+	        return saved;
 	    }
 
 
@@ -142,6 +201,10 @@ public class PostingService {
 	    
 	public List<Posting> getAllPosts(GetAllPostsByEmailRequestDto dto) {
 		System.out.println("🔍 GET POSTS: Fetching posts for email: " + dto.getEmail());
+	    if (dto.isIncludeHistory()) {
+	        // Also archived (posting_history) completed/cancelled posts
+	        return repo.findByEmailIncludingHistory(dto.getEmail());
+	    }
 	    List<Posting> posts = repo.findByEmailOrderByIdDesc(dto.getEmail()); // Now excludes DELETED posts
 	    System.out.println("🔍 GET POSTS: Found " + posts.size() + " active posts (excluding DELETED)");
 	    posts.forEach(p -> System.out.println("🔍 GET POSTS: Post ID " + p.getId() + " has status: " + p.getStatus()));
@@ -153,6 +216,65 @@ public class PostingService {
 	public List<Posting> getAllPost() {
 	    return repo.findAllActive(); // Now excludes DELETED posts
 	}
+
+	/**
+	 * Active posts in the requested view; FEED and SUMMARY select only their columns
+	 */
+	public List<?> getAllPost(PostingView view) {
+	    switch (view) {
+	        case FEED:
+	            return repo.findAllActiveFeedView();
+	        case SUMMARY:
+	            return repo.findAllActiveSummaryView();
+	        default:
+	            return getAllPost();
+	    }
+	}
+	
+	/**
+	 * Keyset-paginated feed page filtered in the database
+	 */
+	public PostingFeedPageDto getFeedPage(String location, String status, Double minOffer, Double maxOffer, Boolean premium,
+	                                      Long afterId, int size, PostingView view) {
+	    int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+	    String normalizedLocation = location == null ? "" : location.trim().toLowerCase();
+	    String statusFilter = "";
+	    if (status != null && !status.trim().isEmpty()) {
+	        statusFilter = PostStatus.valueOf(status.trim().toUpperCase()).name();
+	    }
+
+	    Long minOfferCents = OfferAmounts.dollarsToCents(minOffer);
+	    Long maxOfferCents = OfferAmounts.dollarsToCents(maxOffer);
+	    if (Boolean.TRUE.equals(premium)) {
+	        minOfferCents = Math.max(minOfferCents != null ? minOfferCents : 0L, OfferAmounts.PREMIUM_JOB_THRESHOLD_CENTS);
+	    } else if (Boolean.FALSE.equals(premium)) {
+	        long belowPremium = OfferAmounts.PREMIUM_JOB_THRESHOLD_CENTS - 1;
+	        maxOfferCents = maxOfferCents != null ? Math.min(maxOfferCents, belowPremium) : belowPremium;
+	    }
+	    long minCents = minOfferCents != null ? minOfferCents : -1L;
+	    long maxCents = maxOfferCents != null ? maxOfferCents : -1L;
+	    long cursor = afterId != null ? afterId : 0L;
+
+	    // Fetch one extra row to know whether another page exists
+	    switch (view) {
+	        case FEED:
+	            return toFeedPage(repo.findFeedPageFeedView(normalizedLocation, statusFilter, minCents, maxCents, cursor, pageSize + 1),
+	                    pageSize, PostingFeedView::getId);
+	        case SUMMARY:
+	            return toFeedPage(repo.findFeedPageSummaryView(normalizedLocation, statusFilter, minCents, maxCents, cursor, pageSize + 1),
+	                    pageSize, PostingSummaryView::getId);
+	        default:
+	            return toFeedPage(repo.findFeedPage(normalizedLocation, statusFilter, minCents, maxCents, cursor, pageSize + 1),
+	                    pageSize, Posting::getId);
+	    }
+	}
+
+	private <T> PostingFeedPageDto toFeedPage(List<T> rows, int pageSize, Function<T, Long> idOf) {
+	    boolean hasMore = rows.size() > pageSize;
+	    List<T> page = hasMore ? rows.subList(0, pageSize) : rows;
+	    Long nextCursor = page.isEmpty() ? null : idOf.apply(page.get(page.size() - 1));
+	    return new PostingFeedPageDto(page, nextCursor, hasMore, page.size());
+	}
 	
 	// ✅ SOFT DELETE: Get all deleted posts
 	public List<Posting> getAllDeletedPosts() {
@@ -160,6 +282,7 @@ public class PostingService {
 	}
 	
 	// ✅ SOFT DELETE: Restore a deleted post
+	@Transactional(rollbackFor = Exception.class)
 	public String restoreDeletedPost(Long id) {
 	    Optional<Posting> post = repo.findById(id);
 	    
@@ -169,6 +292,7 @@ public class PostingService {
 	            posting.setStatus(PostStatus.PENDING); // Restore to PENDING status
 	            posting.setUpdatedAt(new Date());
 	            repo.save(posting);
+	            changeLogService.record(posting, PostingChange.ChangeType.UPDATED);
 	            return "Post restored successfully with ID: " + id;
 	        } else {
 	            return "Post with ID: " + id + " is not deleted";
@@ -180,6 +304,28 @@ public class PostingService {
 	public Posting getPostById(Long id) {
 	    return repo.findById(id).orElseThrow(() -> new RuntimeException("Post not found with ID: " + id));
 	}
+
+	/**
+	 * A post from posting_dashboard or, once archived, from posting_history (read-only)
+	 */
+	public Posting getPostByIdIncludingHistory(Long id) {
+	    return repo.findByIdIncludingHistory(id).orElseThrow(() -> new RuntimeException("Post not found with ID: " + id));
+	}
+
+	/**
+	 * A single post in the requested view
+	 */
+	public Object getPostById(Long id, PostingView view) {
+	    switch (view) {
+	        case FEED:
+	            return repo.findFeedViewById(id).orElseThrow(() -> new RuntimeException("Post not found with ID: " + id));
+	        case SUMMARY:
+	            return repo.findSummaryViewById(id).orElseThrow(() -> new RuntimeException("Post not found with ID: " + id));
+	        default:
+	            return getPostById(id);
+	    }
+	}
+	@Transactional(rollbackFor = Exception.class)
 	public String deletePostById(DeletePostRequestByIdDto dto) {
 		
 		Long id = dto.getId();
@@ -198,6 +344,7 @@ public class PostingService {
 	        
 	        System.out.println("🔍 SOFT DELETE: About to save post with VIN: '" + posting.getVin() + "'");
 	        Posting savedPost = repo.save(posting);
+	        changeLogService.record(savedPost, PostingChange.ChangeType.DELETED);
 	        System.out.println("🔍 SOFT DELETE: Post saved with new status: " + savedPost.getStatus());
 	        
 	        return "Post soft deleted with ID: " + id + " (status changed to DELETED)";
@@ -234,7 +381,7 @@ public class PostingService {
 	            if (dto.getStatus() != null) {
 	                post.setStatus(PostStatus.valueOf(dto.getStatus().toUpperCase()));
 	                
-	                // If status is being set to ACCEPTED, set acceptedAt timestamp and save to accepted_posts table
+	                // If status is being set to ACCEPTED, set acceptedAt timestamp (accepted_posts is written with the post below)
 	                if ("ACCEPTED".equalsIgnoreCase(dto.getStatus())) {
 	                    post.setAcceptedAt(new Date());
 	                    
@@ -242,20 +389,6 @@ public class PostingService {
 	                    Date expectedCompletion = new Date();
 	                    expectedCompletion.setTime(expectedCompletion.getTime() + (7 * 24 * 60 * 60 * 1000L));
 	                    post.setExpectedCompletionBy(expectedCompletion);
-	                    
-	                    // ✅ Save to accepted_posts table
-	                    try {
-	                        saveToAcceptedPostsTable(
-	                            dto.getId(), 
-	                            dto.getTechnicianEmail(), 
-	                            post.getOfferAmount(), 
-	                            "Post accepted by technician: " + dto.getTechnicianName()
-	                        );
-	                        log.info("✅ Saved to accepted_posts table for post: {}", dto.getId());
-	                    } catch (Exception e) {
-	                        log.error("❌ Failed to save to accepted_posts table for post {}: {}", dto.getId(), e.getMessage());
-	                        // Don't fail the entire operation if accepted_posts save fails
-	                    }
 	                }
 	            }
 	            
@@ -294,7 +427,20 @@ public class PostingService {
             
             post.setUpdatedAt(new Date());
 
-	            repo.save(post);
+	            // Post, change log and accepted_posts row commit together; the technician lookup above stays outside
+	            boolean accepted = "ACCEPTED".equalsIgnoreCase(dto.getStatus());
+	            transactionTemplate.executeWithoutResult(status -> {
+	                Posting saved = repo.save(post);
+	                changeLogService.record(saved, accepted ? PostingChange.ChangeType.ACCEPTED : PostingChange.ChangeType.UPDATED);
+	                if (accepted) {
+	                    saveToAcceptedPostsTable(dto.getId(), dto.getTechnicianEmail(), saved.getOfferAmount(),
+	                            "Post accepted by technician: " + dto.getTechnicianName());
+	                    log.info("✅ Saved to accepted_posts table for post: {}", dto.getId());
+	                }
+	            });
+	            if (accepted) {
+	                webSocketDealerNotifier.notifyPostAccepted(post.getId());
+	            }
 	            return "Post updated successfully with ID: " + dto.getId();
 	        } else {
 	            return "Post Cannot be edited - status is COMPLETED";
@@ -376,90 +522,103 @@ public class PostingService {
 	    }
 	}
 	
-	@Transactional(rollbackFor = Exception.class)
+	/**
+	 * Flip the post to ACCEPTED with one conditional UPDATE (WHERE status = 'PENDING'), so the row is
+	 * only locked for that statement. Losing the race to another acceptor returns false.
+	 * Joins the caller's transaction when there is one (counter offer acceptance).
+	 */
 	private boolean acceptPostDirectlyTransaction(Long postId, String technicianEmail, String newOfferAmount, 
 	                                            String technicianName, String technicianPhone) {
+	    Timer.Sample sample = Timer.start(meterRegistry);
+	    String outcome = "error";
 	    try {
-	                log.info("🔄 Starting database transaction for post acceptance: postId={}, technicianEmail={}", postId, technicianEmail);
-        
-        // Check post availability with pessimistic lock to prevent race conditions
-        Optional<Posting> postOpt = repo.findByIdWithLock(postId);
-        if (postOpt.isEmpty()) {
-            log.error("❌ Post not found: {}", postId);
-            return false;
-        }
-
-	        Posting post = postOpt.get();
-	        log.info("📋 Found post: id={}, status={}, email={}", post.getId(), post.getStatus(), post.getEmail());
-	        
-	        if (post.getStatus() != PostStatus.PENDING) {
-	            log.error("❌ Post is not in PENDING status. Current status: {} for post {}", post.getStatus(), postId);
-	            return false;
-	        }
-	        
-	        // ✅ RACE CONDITION CHECK: Check if post is already accepted
-	        log.info("🔍 Checking if post {} is already in accepted_posts table", postId);
-	        Optional<AcceptedPost> existingAcceptedPost = acceptedPostRepository.findByPostId(postId);
-	        if (existingAcceptedPost.isPresent()) {
-	            log.warn("❌ Post {} already exists in accepted_posts table. Accepted by: {}", 
-	                   postId, existingAcceptedPost.get().getTechnicianEmail());
-	            return false;
+	        log.info("🔄 Starting conditional acceptance update: postId={}, technicianEmail={}", postId, technicianEmail);
+	        outcome = transactionTemplate.execute(status ->
+	            applyAcceptance(postId, technicianEmail, newOfferAmount, technicianName, technicianPhone));
+	        if ("accepted".equals(outcome)) {
+	            AfterCommit.run(() -> webSocketDealerNotifier.notifyPostAccepted(postId));
 	        }
-	        log.info("✅ Post {} not yet in accepted_posts table, proceeding with acceptance", postId);
-
-	                // Update post status to ACCEPTED
-        post.setStatus(PostStatus.ACCEPTED);
-        post.setAcceptedAt(new Date());
-        post.setTechnicianEmail(technicianEmail);
-        
-        // Set technician details if available
-        if (technicianName != null && !technicianName.trim().isEmpty()) {
-            post.setTechnicianName(technicianName);
-        }
-        if (technicianPhone != null && !technicianPhone.trim().isEmpty()) {
-            post.setTechnicianPhone(technicianPhone);
-        }
-	        
-	        // Update offer amount if provided (for counter offers)
-	        if (newOfferAmount != null && !newOfferAmount.trim().isEmpty()) {
-	            String oldAmount = post.getOfferAmount();
-	            post.setOfferAmount(newOfferAmount);
-	            log.info("Updated offer amount from '{}' to '{}' for post {}", oldAmount, newOfferAmount, postId);
-	        }
-	        
-	        // Set expected completion date (7 days from now)
-	        Date expectedCompletion = new Date();
-	        expectedCompletion.setTime(expectedCompletion.getTime() + (7 * 24 * 60 * 60 * 1000L));
-	        post.setExpectedCompletionBy(expectedCompletion);
-	        
-	        post.setUpdatedAt(new Date());
-	        repo.save(post);
-	        
-	        // ✅ Save to accepted_posts table
-	        try {
-	            saveToAcceptedPostsTable(
-	                postId, 
-	                technicianEmail, 
-	                post.getOfferAmount(), 
-	                "Post accepted by technician: " + (technicianName != null ? technicianName : technicianEmail)
-	            );
-	            log.info("✅ Saved to accepted_posts table for post: {}", postId);
-	        } catch (Exception e) {
-	            log.error("❌ Failed to save to accepted_posts table for post {}: {}", postId, e.getMessage());
-	            // Don't fail the entire operation if accepted_posts save fails
-	        }
-	        
-	        log.info("Successfully accepted post: id={}, technicianEmail={}, finalOfferAmount={}, acceptedAt={}", 
-	               postId, technicianEmail, post.getOfferAmount(), post.getAcceptedAt());
-	        return true;
-	        
+	        return "accepted".equals(outcome);
 	    } catch (Exception e) {
 	        log.error("Error accepting post directly: postId={}, technicianEmail={}, error={}", 
 	                 postId, technicianEmail, e.getMessage(), e);
 	        return false;
+	    } finally {
+	        sample.stop(Timer.builder("postings.accept")
+	            .tag("outcome", outcome)
+	            .publishPercentileHistogram()
+	            .register(meterRegistry));
 	    }
 	}
 
+	private String applyAcceptance(Long postId, String technicianEmail, String newOfferAmount,
+	                               String technicianName, String technicianPhone) {
+	    // Plain read: fails fast on posts that are already taken and keeps the pre-acceptance
+	    // state for the change log and daily stats. The UPDATE below is what decides the race.
+	    Optional<Posting> postOpt = repo.findById(postId);
+	    if (postOpt.isEmpty()) {
+	        log.error("❌ Post not found: {}", postId);
+	        return "not_found";
+	    }
+	    Posting post = postOpt.get();
+	    if (post.getStatus() != PostStatus.PENDING) {
+	        log.warn("❌ Post is not in PENDING status. Current status: {} for post {}", post.getStatus(), postId);
+	        return "conflict";
+	    }
+
+	    Date acceptedAt = new Date();
+	    // Expected completion is 7 days from acceptance
+	    Date expectedCompletion = new Date(acceptedAt.getTime() + (7 * 24 * 60 * 60 * 1000L));
+	    String phone = technicianPhone != null && !technicianPhone.trim().isEmpty() ? technicianPhone : null;
+	    boolean replaceOffer = newOfferAmount != null && !newOfferAmount.trim().isEmpty();
+
+	    int updated = replaceOffer
+	        ? repo.acceptIfPendingWithOffer(postId, technicianEmail, technicianName, phone, acceptedAt,
+	            expectedCompletion, newOfferAmount, OfferAmounts.toCents(newOfferAmount))
+	        : repo.acceptIfPending(postId, technicianEmail, technicianName, phone, acceptedAt, expectedCompletion);
+	    if (updated == 0) {
+	        log.warn("❌ Post {} was accepted by another technician first", postId);
+	        return "conflict";
+	    }
+
+	    // Mirror the UPDATE on the (now detached) snapshot, which still carries the counted
+	    // PENDING state, so the change log and daily stats see the transition
+	    if (replaceOffer) {
+	        log.info("Updated offer amount from '{}' to '{}' for post {}", post.getOfferAmount(), newOfferAmount, postId);
+	        post.setOfferAmount(newOfferAmount);
+	        post.setOfferCents(OfferAmounts.toCents(newOfferAmount));
+	    }
+	    post.setStatus(PostStatus.ACCEPTED);
+	    post.setAcceptedAt(acceptedAt);
+	    post.setTechnicianEmail(technicianEmail);
+	    post.setTechnicianName(technicianName);
+	    if (phone != null) {
+	        post.setTechnicianPhone(phone);
+	    }
+	    post.setExpectedCompletionBy(expectedCompletion);
+	    post.setUpdatedAt(acceptedAt);
+	    post.setVersion(post.getVersion() + 1);
+	    changeLogService.record(post, PostingChange.ChangeType.ACCEPTED);
+
+	    // ✅ Save to accepted_posts table
+	    try {
+	        saveToAcceptedPostsTable(
+	            postId, 
+	            technicianEmail, 
+	            post.getOfferAmount(), 
+	            "Post accepted by technician: " + technicianName
+	        );
+	        log.info("✅ Saved to accepted_posts table for post: {}", postId);
+	    } catch (Exception e) {
+	        log.error("❌ Failed to save to accepted_posts table for post {}: {}", postId, e.getMessage());
+	        // Don't fail the entire operation if accepted_posts save fails
+	    }
+
+	    log.info("Successfully accepted post: id={}, technicianEmail={}, finalOfferAmount={}, acceptedAt={}", 
+	           postId, technicianEmail, post.getOfferAmount(), acceptedAt);
+	    return "accepted";
+	}
+
 	/**
 	 * Accept post with counter offer - Enhanced method for counter offer flow
 	 */
@@ -504,6 +663,7 @@ public class PostingService {
 	        post.setUpdatedAt(new Date());
 	        
 	        repo.save(post);
+	        changeLogService.record(post, PostingChange.ChangeType.UPDATED);
 	        log.info("Updated offer amount from '{}' to '{}' for post {}", oldAmount, newOfferAmount, postId);
 	        return true;
 	    } catch (Exception e) {
@@ -578,35 +738,46 @@ public class PostingService {
 	    }
 	}
 
+	/**
+	 * Map a status transition to the change-log entry type
+	 */
+	private PostingChange.ChangeType changeTypeForStatus(PostStatus status) {
+	    if (status == PostStatus.ACCEPTED) {
+	        return PostingChange.ChangeType.ACCEPTED;
+	    }
+	    if (status == PostStatus.DELETED) {
+	        return PostingChange.ChangeType.DELETED;
+	    }
+	    return PostingChange.ChangeType.UPDATED;
+	}
+
 	// ==================== ADMIN METHODS ====================
 
 	/**
-	 * Get all posts for admin with pagination and filtering
+	 * Get one page of posts for admin, newest first, paged in the database without a count.
+	 * When beforeId is given it is used as a keyset cursor and page is ignored, so deep pages
+	 * cost the same as the first one. includeHistory also covers archived posts (posting_history).
 	 */
-	public List<Posting> getAllPostsForAdmin(Map<String, Object> filters, int page, int size) {
+	public Slice<Posting> getAllPostsForAdmin(Map<String, Object> filters, int page, int size, Long beforeId,
+			boolean includeHistory) {
 		try {
-			log.info("Getting all posts for admin with filters: {}, page: {}, size: {}", filters, page, size);
+			log.info("Getting all posts for admin with filters: {}, page: {}, size: {}, beforeId: {}", filters, page, size, beforeId);
 			
-			// Extract filter values
-			String status = (String) filters.get("status");
-			String location = (String) filters.get("location");
-			String dealerEmail = (String) filters.get("dealerEmail");
-			String search = (String) filters.get("search");
+			// Extract filter values (empty means no filter)
+			String status = SearchQueries.emptyIfNull((String) filters.get("status"));
+			String location = SearchQueries.emptyIfNull((String) filters.get("location"));
+			String dealerEmail = SearchQueries.emptyIfNull((String) filters.get("dealerEmail"));
+			String search = SearchQueries.emptyIfNull((String) filters.get("search"));
 			
-			// Apply filters and get posts
-			List<Posting> posts = repo.findAllWithFilters(status, location, dealerEmail, search);
+			// Ordering (id DESC) is part of the query; the Pageable only supplies offset and limit
+			Pageable pageable = PageRequest.of(beforeId != null ? 0 : page, size);
+			String tsQuery = SearchQueries.toPrefixTsQuery(search);
+			long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+			Slice<Posting> posts = includeHistory
+					? repo.findAdminSliceIncludingHistory(status, location, dealerEmail, search, tsQuery, cursor, pageable)
+					: repo.findAdminSlice(status, location, dealerEmail, search, tsQuery, cursor, pageable);
 			
-			// Apply pagination manually since JPA doesn't support dynamic pagination with custom queries
-			int startIndex = page * size;
-			int endIndex = Math.min(startIndex + size, posts.size());
-			
-			if (startIndex < posts.size()) {
-				posts = posts.subList(startIndex, endIndex);
-			} else {
-				posts = List.of();
-			}
-			
-			log.info("Retrieved {} posts for admin", posts.size());
+			log.info("Retrieved {} posts for admin", posts.getNumberOfElements());
 			return posts;
 		} catch (Exception e) {
 			log.error("Error getting all posts for admin: {}", e.getMessage(), e);
@@ -614,20 +785,37 @@ public class PostingService {
 		}
 	}
 
+	/**
+	 * Full-text search over content, location, name, VIN and auction lot, most relevant first.
+	 * Every word matches as a prefix; status is optional.
+	 */
+	public List<Posting> searchPostsRanked(String query, String status, int limit) {
+		String tsQuery = SearchQueries.toPrefixTsQuery(query);
+		if (tsQuery.isEmpty()) {
+			throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+		}
+		List<Posting> posts = repo.searchRanked(tsQuery, SearchQueries.emptyIfNull(status), limit);
+		log.info("🔍 Ranked search '{}' returned {} posts", query, posts.size());
+		return posts;
+	}
+
 	/**
 	 * Get total posts count for admin with filters
 	 */
-	public long getTotalPostsCount(Map<String, Object> filters) {
+	public long getTotalPostsCount(Map<String, Object> filters, boolean includeHistory) {
 		try {
 			log.info("Getting total posts count for admin with filters: {}", filters);
 			
-			// Extract filter values
-			String status = (String) filters.get("status");
-			String location = (String) filters.get("location");
-			String dealerEmail = (String) filters.get("dealerEmail");
-			String search = (String) filters.get("search");
+			// Extract filter values (empty means no filter)
+			String status = SearchQueries.emptyIfNull((String) filters.get("status"));
+			String location = SearchQueries.emptyIfNull((String) filters.get("location"));
+			String dealerEmail = SearchQueries.emptyIfNull((String) filters.get("dealerEmail"));
+			String search = SearchQueries.emptyIfNull((String) filters.get("search"));
 			
-			long count = repo.countWithFilters(status, location, dealerEmail, search);
+			String tsQuery = SearchQueries.toPrefixTsQuery(search);
+			long count = includeHistory
+					? repo.countWithFiltersIncludingHistory(status, location, dealerEmail, search, tsQuery)
+					: repo.countWithFilters(status, location, dealerEmail, search, tsQuery);
 			
 			log.info("Total posts count for admin: {}", count);
 			return count;
@@ -659,6 +847,7 @@ public class PostingService {
 			log.info("Post {} status changed from {} to {} by admin {}", postId, oldStatus, newStatus, adminEmail);
 			
 			repo.save(post);
+			changeLogService.record(post, changeTypeForStatus(newStatus));
 		} catch (Exception e) {
 			log.error("Error updating post status by admin: {}", e.getMessage(), e);
 			throw new RuntimeException("Failed to update post status: " + e.getMessage());
@@ -680,6 +869,7 @@ public class PostingService {
 
 			// Hard delete the post
 			repo.deleteById(postId);
+			changeLogService.record(postOpt.get(), PostingChange.ChangeType.DELETED);
 			
 			log.info("Post {} deleted by admin {}", postId, adminEmail);
 		} catch (Exception e) {
@@ -716,6 +906,7 @@ public class PostingService {
 			// post.setDeletedAt(null); // If you have this field
 			
 			repo.save(post);
+			changeLogService.record(post, PostingChange.ChangeType.UPDATED);
 			
 			log.info("Post {} restored successfully by admin {} to status {}", postId, adminEmail, PostStatus.PENDING);
 		} catch (Exception e) {
@@ -725,91 +916,81 @@ public class PostingService {
 	}
 
 	/**
-	 * Bulk update post statuses by admin
+	 * Set the status of one chunk of posts with a single UPDATE (bulk admin jobs).
+	 * Unknown IDs are skipped; returns the number of posts updated.
 	 */
-	@Transactional
-	public int bulkUpdatePostStatuses(List<Long> postIds, PostStatus newStatus, String reason, String adminEmail) {
-		try {
-			log.info("Admin {} bulk updating {} posts to status {} with reason: {}", 
-					adminEmail, postIds.size(), newStatus, reason);
-			
-			int updatedCount = 0;
-			for (Long postId : postIds) {
-				try {
-					updatePostStatusByAdmin(postId, newStatus, reason, adminEmail);
-					updatedCount++;
-				} catch (Exception e) {
-					log.error("Failed to update post {} in bulk operation: {}", postId, e.getMessage());
-					// Continue with other posts
-				}
+	public int updatePostStatusChunk(List<Long> postIds, PostStatus newStatus, String reason, String adminEmail) {
+		Date now = new Date();
+		int updated = transactionTemplate.execute(status -> {
+			List<Posting> posts = repo.findAllByIdForUpdate(postIds);
+			if (posts.isEmpty()) {
+				return 0;
 			}
-			
-			log.info("Bulk status update completed: {} out of {} posts updated", updatedCount, postIds.size());
-			return updatedCount;
-		} catch (Exception e) {
-			log.error("Error in bulk status update: {}", e.getMessage(), e);
-			throw new RuntimeException("Failed to perform bulk status update: " + e.getMessage());
-		}
+			int count = repo.updateStatusByIds(posts.stream().map(Posting::getId).collect(Collectors.toList()), newStatus, now);
+			// The loaded posts are detached by the UPDATE and still carry their counted state
+			for (Posting post : posts) {
+				post.setStatus(newStatus);
+				post.setUpdatedAt(now);
+				post.setVersion(post.getVersion() + 1);
+			}
+			changeLogService.recordAll(posts, changeTypeForStatus(newStatus));
+			return count;
+		});
+		log.info("Admin {} set {} of {} posts to {} with reason: {}", adminEmail, updated, postIds.size(), newStatus, reason);
+		return updated;
 	}
 
 	/**
-	 * Bulk delete posts by admin
+	 * Hard delete one chunk of posts with a single DELETE (bulk admin jobs).
+	 * Unknown IDs are skipped; returns the number of posts deleted.
 	 */
-	@Transactional
-	public int bulkDeletePosts(List<Long> postIds, String reason, String adminEmail) {
-		try {
-			log.info("Admin {} bulk deleting {} posts with reason: {}", adminEmail, postIds.size(), reason);
-			
-			int deletedCount = 0;
-			for (Long postId : postIds) {
-				try {
-					deletePostByAdmin(postId, reason, adminEmail);
-					deletedCount++;
-				} catch (Exception e) {
-					log.error("Failed to delete post {} in bulk operation: {}", postId, e.getMessage());
-					// Continue with other posts
-				}
+	public int deletePostChunk(List<Long> postIds, String reason, String adminEmail) {
+		int deleted = transactionTemplate.execute(status -> {
+			List<Posting> posts = repo.findAllByIdForUpdate(postIds);
+			if (posts.isEmpty()) {
+				return 0;
 			}
-			
-			log.info("Bulk delete completed: {} out of {} posts deleted", deletedCount, postIds.size());
-			return deletedCount;
-		} catch (Exception e) {
-			log.error("Error in bulk delete: {}", e.getMessage(), e);
-			throw new RuntimeException("Failed to perform bulk delete: " + e.getMessage());
-		}
+			int count = repo.deleteByIds(posts.stream().map(Posting::getId).collect(Collectors.toList()));
+			changeLogService.recordAll(posts, PostingChange.ChangeType.DELETED);
+			return count;
+		});
+		log.info("Admin {} deleted {} of {} posts with reason: {}", adminEmail, deleted, postIds.size(), reason);
+		return deleted;
 	}
 
 	/**
 	 * Get posting statistics for admin
 	 */
-	public Map<String, Object> getPostingStatistics(String dateFrom, String dateTo) {
+	public Map<String, Object> getPostingStatistics(String dateFrom, String dateTo, String location) {
 		try {
-			log.info("Getting posting statistics from {} to {}", dateFrom, dateTo);
-			
-			Map<String, Object> stats = new HashMap<>();
+			log.info("Getting posting statistics from {} to {} (location: {})", dateFrom, dateTo, location);
 			
-			// Get total posts count
-			long totalPosts = repo.count();
-			stats.put("totalPosts", totalPosts);
+			// All-time status totals and the optional range both come from the posting_daily_stats rollup
+			Map<String, Object> allTime = dailyStatsService.getStatistics(null, null, location);
+			@SuppressWarnings("unchecked")
+			Map<String, Long> statusCounts = (Map<String, Long>) allTime.get("statusCounts");
 			
-			// Get posts by status
-			stats.put("pendingPosts", repo.countByStatus(PostStatus.PENDING));
-			stats.put("acceptedPosts", repo.countByStatus(PostStatus.ACCEPTED));
-			stats.put("cancelledPosts", repo.countByStatus(PostStatus.CANCELLED));
-			stats.put("completedPosts", repo.countByStatus(PostStatus.COMPLETED));
+			Map<String, Object> stats = new HashMap<>();
+			stats.put("totalPosts", allTime.get("total"));
+			stats.put("pendingPosts", statusCounts.get(PostStatus.PENDING.name()));
+			stats.put("acceptedPosts", statusCounts.get(PostStatus.ACCEPTED.name()));
+			stats.put("cancelledPosts", statusCounts.get(PostStatus.CANCELLED.name()));
+			stats.put("completedPosts", statusCounts.get(PostStatus.COMPLETED.name()));
+			stats.put("statusCounts", statusCounts);
+			stats.put("topLocations", allTime.get("topLocations"));
 			
 			// Get posts by date range if provided
 			if (dateFrom != null && dateTo != null) {
 				try {
-					// Validate date format
-					java.time.LocalDate.parse(dateFrom);
-					java.time.LocalDate.parse(dateTo);
-					
-					// TODO: Implement actual date range filtering in repository
-					// For now, set a placeholder
-					stats.put("postsInDateRange", 0);
+					LocalDate from = LocalDate.parse(dateFrom);
+					LocalDate to = LocalDate.parse(dateTo);
+					Map<String, Object> range = dailyStatsService.getStatistics(from, to, location);
+					stats.put("postsInDateRange", range.get("total"));
+					stats.put("dateRangeStatusCounts", range.get("statusCounts"));
+					stats.put("dailyTrend", range.get("daily"));
+					stats.put("dateRangeTopLocations", range.get("topLocations"));
 					stats.put("dateRange", Map.of("from", dateFrom, "to", dateTo));
-				} catch (Exception e) {
+				} catch (java.time.format.DateTimeParseException e) {
 					log.warn("Invalid date format in statistics request: {} to {}", dateFrom, dateTo);
 					stats.put("postsInDateRange", 0);
 					stats.put("dateRangeError", "Invalid date format. Use YYYY-MM-DD");
@@ -827,7 +1008,7 @@ public class PostingService {
 	/**
 	 * Get posts by date range for admin
 	 */
-	public List<Posting> getPostsByDateRange(String dateFrom, String dateTo, int page, int size) {
+	public Slice<Posting> getPostsByDateRange(String dateFrom, String dateTo, int page, int size) {
 		try {
 			log.info("Getting posts by date range from {} to {}, page: {}, size: {}", dateFrom, dateTo, page, size);
 			
@@ -836,19 +1017,11 @@ public class PostingService {
 				throw new IllegalArgumentException("Both dateFrom and dateTo are required");
 			}
 			
-			// Parse dates (simple format validation)
-			try {
-				java.time.LocalDate.parse(dateFrom);
-				java.time.LocalDate.parse(dateTo);
-			} catch (Exception e) {
-				throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD format");
-			}
-			
-			// For now, return all posts with pagination since date filtering is not implemented in repository
-			// TODO: Implement date range filtering in repository
-			List<Posting> posts = repo.findAllWithPagination(page, size);
+			Date[] range = parseDateRange(dateFrom, dateTo);
+			Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+			Slice<Posting> posts = repo.findByDateRange(range[0], range[1], pageable);
 			
-			log.info("Retrieved {} posts by date range", posts.size());
+			log.info("Retrieved {} posts by date range", posts.getNumberOfElements());
 			return posts;
 		} catch (Exception e) {
 			log.error("Error getting posts by date range: {}", e.getMessage(), e);
@@ -857,84 +1030,38 @@ public class PostingService {
 	}
 
 	/**
-	 * Get total posts count by date range for admin
+	 * Inclusive YYYY-MM-DD range as [start of dateFrom, end of dateTo]
 	 */
-	public long getTotalPostsByDateRange(String dateFrom, String dateTo) {
+	private Date[] parseDateRange(String dateFrom, String dateTo) {
+		if (dateFrom == null || dateTo == null) {
+			throw new IllegalArgumentException("Both dateFrom and dateTo are required");
+		}
 		try {
-			log.info("Getting total posts count by date range from {} to {}", dateFrom, dateTo);
-			
-			// TODO: Implement date range filtering
-			// For now, return total count
-			long count = repo.count();
-			
-			log.info("Total posts count by date range: {}", count);
-			return count;
+			ZoneId zone = ZoneId.systemDefault();
+			Date from = Date.from(LocalDate.parse(dateFrom).atStartOfDay(zone).toInstant());
+			Date to = Date.from(LocalDate.parse(dateTo).plusDays(1).atStartOfDay(zone).toInstant().minusMillis(1));
+			return new Date[] { from, to };
 		} catch (Exception e) {
-			log.error("Error getting total posts count by date range: {}", e.getMessage(), e);
-			throw new RuntimeException("Failed to get posts count by date range: " + e.getMessage());
+			throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD format");
 		}
 	}
 
 	/**
-	 * Export posts data for admin
+	 * Get total posts count by date range for admin
 	 */
-	public String exportPostsData(String format, String status, String dateFrom, String dateTo) {
+	public long getTotalPostsByDateRange(String dateFrom, String dateTo) {
 		try {
-			log.info("Exporting posts data - format: {}, status: {}, dateFrom: {}, dateTo: {}", 
-					format, status, dateFrom, dateTo);
-			
-			// Validate format parameter
-			if (format == null || format.trim().isEmpty()) {
-				format = "csv"; // Default to CSV
-			}
-			
-			// Only support CSV for now
-			if (!"csv".equalsIgnoreCase(format.trim())) {
-				throw new IllegalArgumentException("Only CSV format is supported. Requested format: " + format);
-			}
-			
-			// Apply filters if provided
-			List<Posting> posts;
-			if (status != null && !status.trim().isEmpty()) {
-				try {
-					PostStatus postStatus = PostStatus.valueOf(status.trim().toUpperCase());
-					// Use the existing filter method instead of findByStatus
-					Map<String, Object> filters = new HashMap<>();
-					filters.put("status", postStatus.name());
-					posts = repo.findAllWithFilters(postStatus.name(), null, null, null);
-				} catch (IllegalArgumentException e) {
-					throw new IllegalArgumentException("Invalid status value: " + status + ". Valid values: " + 
-						Arrays.stream(PostStatus.values()).map(Enum::name).collect(Collectors.joining(", ")));
-				}
-			} else {
-				posts = repo.findAll();
-			}
-			
-			// TODO: Implement date range filtering
-			// For now, export all posts matching status filter
-			
-			// Generate CSV
-			StringBuilder csv = new StringBuilder();
-			csv.append("ID,Email,Content,Location,OfferAmount,Status,CreatedAt,UpdatedAt\n");
+			log.info("Getting total posts count by date range from {} to {}", dateFrom, dateTo);
 			
-			for (Posting post : posts) {
-				csv.append(String.format("%d,%s,%s,%s,%s,%s,%s,%s\n",
-					post.getId(),
-					post.getEmail() != null ? post.getEmail().replace(",", ";") : "",
-					post.getContent() != null ? post.getContent().replace(",", ";") : "",
-					post.getLocation() != null ? post.getLocation().replace(",", ";") : "",
-					post.getOfferAmount() != null ? post.getOfferAmount().replace(",", ";") : "",
-					post.getStatus(),
-					post.getCreatedAt(),
-					post.getUpdatedAt()
-				));
-			}
+			// Validates both dates; the count itself comes from the daily stats rollup
+			parseDateRange(dateFrom, dateTo);
+			long count = dailyStatsService.countCreatedBetween(LocalDate.parse(dateFrom), LocalDate.parse(dateTo));
 			
-			log.info("Posts data exported successfully in {} format. Total posts: {}", format, posts.size());
-			return csv.toString();
+			log.info("Total posts count by date range: {}", count);
+			return count;
 		} catch (Exception e) {
-			log.error("Error exporting posts data: {}", e.getMessage(), e);
-			throw new RuntimeException("Failed to export posts data: " + e.getMessage());
+			log.error("Error getting total posts count by date range: {}", e.getMessage(), e);
+			throw new RuntimeException("Failed to get posts count by date range: " + e.getMessage());
 		}
 	}
 
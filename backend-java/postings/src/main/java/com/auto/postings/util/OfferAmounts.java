@@ -0,0 +1,45 @@
+package com.auto.postings.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversion of free-form offer strings ("$1,250.00", "500") to integer cents.
+ * The string stays the display value; cents are what queries filter and sort on.
+ */
+public final class OfferAmounts {
+
+    /** Jobs at or above $500 are premium */
+    public static final long PREMIUM_JOB_THRESHOLD_CENTS = 50_000L;
+
+    private OfferAmounts() {
+    }
+
+    /**
+     * Integer cents for an offer string, or null when it has no parseable amount
+     */
+    public static Long toCents(String offerAmount) {
+        if (offerAmount == null) {
+            return null;
+        }
+        String cleanAmount = offerAmount.replaceAll("[^0-9.]", "");
+        if (cleanAmount.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(cleanAmount).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Dollar filter bound to cents; null stays null
+     */
+    public static Long dollarsToCents(Double dollars) {
+        if (dollars == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(dollars).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+}
@@ -0,0 +1,45 @@
+package com.auto.postings.util;
+
+import java.util.StringJoiner;
+
+/**
+ * Builds PostgreSQL tsquery strings from free-form admin search input.
+ * Only letters and digits survive, so user input can never produce tsquery syntax errors.
+ */
+public final class SearchQueries {
+
+    /** Extra words add little to ranking and make the query needlessly expensive */
+    private static final int MAX_TERMS = 8;
+
+    private SearchQueries() {
+    }
+
+    /**
+     * Prefix query where every word must match: "hond civ" -> "hond:* & civ:*".
+     * Returns an empty string when the input has no searchable words.
+     */
+    public static String toPrefixTsQuery(String search) {
+        if (search == null) {
+            return "";
+        }
+        StringJoiner query = new StringJoiner(" & ");
+        int terms = 0;
+        for (String word : search.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            query.add(word.toLowerCase() + ":*");
+            if (++terms == MAX_TERMS) {
+                break;
+            }
+        }
+        return query.toString();
+    }
+
+    /**
+     * Empty string for a null filter value, matching the "no filter" convention of the native queries
+     */
+    public static String emptyIfNull(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -1,19 +1,60 @@
 // WebSocketDealerNotifier.java
 package com.auto.postings.webSocket;
 
+import java.util.Set;
+
+import com.auto.postings.dto.NewPostEventDto;
 import com.auto.postings.model.Posting;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.auto.websocket.StompEventBroadcaster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
+@Slf4j
 public class WebSocketDealerNotifier {
 
-    @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    // New posts go to /topic/new-post/{location}, so technicians only receive posts for their area.
+    // Aggregating consumers (the technician service feed index) subscribe to /topic/new-post/**.
+    // Both topics carry JSON arrays: events are batched and coalesced by StompEventBroadcaster.
+    public static final String NEW_POST_TOPIC_PREFIX = "/topic/new-post/";
+    public static final String POST_ACCEPTED_TOPIC = "/topic/post-accepted";
+
+    private final StompEventBroadcaster broadcaster;
+    private final MeterRegistry meterRegistry;
+
+    // Location slugs that get their own metric tag value; every other location counts as "other".
+    // Locations are free-form dealer input, so an unbounded tag would grow a series per typo
+    @Value("${postings.ws.metrics.locations:}")
+    private Set<String> metricLocations;
+
+    /**
+     * Single destination segment for a location: "Dallas, Texas " -> "dallas-texas"
+     */
+    public static String topicLocation(String location) {
+        String normalized = location == null ? "" : location.trim().toLowerCase()
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-+|-+$", "");
+        return normalized.isEmpty() ? "unknown" : normalized;
+    }
 
     public void notifyNewPost(Posting post) {
-        System.out.println("📡 Sending new post to technicians → " + post.getId());
-        messagingTemplate.convertAndSend("/topic/new-post", post);
+        String location = topicLocation(post.getLocation());
+        log.info("📡 Queueing new post {} for technicians in {}", post.getId(), location);
+        broadcaster.publish(NEW_POST_TOPIC_PREFIX + location, post.getId(), NewPostEventDto.from(post));
+        meterRegistry.counter("postings.ws.messages.sent", "topic", "new-post",
+                "location", metricLocations.contains(location) ? location : "other").increment();
+    }
+
+    public void notifyPostAccepted(Long postId) {
+        log.info("📡 Queueing post accepted for technicians → {}", postId);
+        broadcaster.publish(POST_ACCEPTED_TOPIC, postId, postId);
+        // Global topic: acceptance paths only know the post ID
+        meterRegistry.counter("postings.ws.messages.sent", "topic", "post-accepted", "location", "all").increment();
     }
-}
\ No newline at end of file
+}
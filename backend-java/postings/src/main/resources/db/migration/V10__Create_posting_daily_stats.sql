@@ -0,0 +1,23 @@
+-- Daily posting statistics rollup: postings created per day x location x current status
+-- Kept current by the application on every posting transition; backfilled here from existing rows
+
+CREATE TABLE IF NOT EXISTS posting_daily_stats (
+    id BIGSERIAL PRIMARY KEY,
+    stat_day DATE NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    post_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_posting_daily_stats UNIQUE (stat_day, location, status)
+);
+
+-- Per-location trends (the unique constraint already covers day-range scans)
+CREATE INDEX IF NOT EXISTS idx_posting_daily_stats_location_day
+    ON posting_daily_stats (location, stat_day);
+
+-- Rows without created_at are counted on 1970-01-01, matching the application
+INSERT INTO posting_daily_stats (stat_day, location, status, post_count)
+SELECT COALESCE(CAST(created_at AS DATE), DATE '1970-01-01'), COALESCE(TRIM(location), ''),
+       COALESCE(status, 'UNKNOWN'), COUNT(*)
+FROM posting_dashboard
+GROUP BY 1, 2, 3
+ON CONFLICT (stat_day, location, status) DO NOTHING;
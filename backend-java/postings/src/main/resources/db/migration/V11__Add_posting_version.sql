@@ -0,0 +1,5 @@
+-- Optimistic version for posting_dashboard rows. Acceptance is a single conditional UPDATE
+-- (WHERE status = 'PENDING') that bumps it, and entity saves check it, so an edit loaded
+-- before an acceptance can no longer overwrite it
+
+ALTER TABLE posting_dashboard ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
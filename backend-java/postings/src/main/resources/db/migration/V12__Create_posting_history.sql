@@ -0,0 +1,59 @@
+-- Cold storage for terminal postings (DELETED, COMPLETED, CANCELLED). The archiver moves them out
+-- of posting_dashboard once they are old enough, keeping the hot table and its indexes small.
+-- Range-partitioned by created_at; yearly partitions are created by the archiver as needed,
+-- the default partition only catches rows without created_at.
+
+CREATE TABLE IF NOT EXISTS posting_history (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    content TEXT,
+    location VARCHAR(255),
+    offer_amount VARCHAR(50),
+    offer_cents BIGINT,
+    status VARCHAR(50),
+    vin VARCHAR(17),
+    auction_lot VARCHAR(100),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    accepted_at TIMESTAMP,
+    technician_email VARCHAR(255),
+    technician_name VARCHAR(255),
+    technician_phone VARCHAR(20),
+    dealer_phone VARCHAR(20),
+    expected_completion_by TIMESTAMP,
+    inspection_report_id BIGINT,
+    zipcode VARCHAR(10),
+    version BIGINT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Same expression as posting_dashboard.search_vector (V9), so admin search covers history too
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(content, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(location, '')), 'B') ||
+        setweight(to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(vin, '') || ' ' || COALESCE(auction_lot, '')), 'C')
+    ) STORED
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS posting_history_default PARTITION OF posting_history DEFAULT;
+
+-- Partitioned indexes: created on every current and future partition
+CREATE INDEX IF NOT EXISTS idx_posting_history_id ON posting_history (id);
+CREATE INDEX IF NOT EXISTS idx_posting_history_email_id ON posting_history (email, id);
+CREATE INDEX IF NOT EXISTS idx_posting_history_search_vector ON posting_history USING GIN (search_vector);
+
+-- "Include history" reads: hot and archived postings with the posting_dashboard column set
+CREATE OR REPLACE VIEW posting_with_history AS
+SELECT id, name, email, content, location, offer_amount, offer_cents, status, vin, auction_lot,
+       created_at, updated_at, accepted_at, technician_email, technician_name, technician_phone,
+       dealer_phone, expected_completion_by, inspection_report_id, zipcode, version, search_vector
+FROM posting_dashboard
+UNION ALL
+SELECT id, name, email, content, location, offer_amount, offer_cents, status, vin, auction_lot,
+       created_at, updated_at, accepted_at, technician_email, technician_name, technician_phone,
+       dealer_phone, expected_completion_by, inspection_report_id, zipcode, version, search_vector
+FROM posting_history;
+
+-- Archiver candidate scan: terminal posts by last activity
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_terminal_activity
+    ON posting_dashboard ((COALESCE(updated_at, created_at)))
+    WHERE status IN ('DELETED', 'COMPLETED', 'CANCELLED');
@@ -0,0 +1,22 @@
+-- Make the change log safe to tail. seq is taken when a row is inserted, so a lower seq can commit
+-- after a higher one and a reader that already moved past it would skip it for good. Readers now
+-- page by the writing transaction's ID instead, and only over transactions below the oldest
+-- in-flight one (pg_snapshot_xmin), whose rows can no longer change. Requires PostgreSQL 13+.
+
+ALTER TABLE posting_change_log
+    ADD COLUMN IF NOT EXISTS txid BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint);
+
+CREATE INDEX IF NOT EXISTS idx_posting_change_log_txid ON posting_change_log(txid, seq);
+
+-- Highest txid removed by retention; a reader positioned below it may have missed changes
+CREATE TABLE IF NOT EXISTS posting_change_log_state (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    pruned_through BIGINT NOT NULL
+);
+
+-- Existing rows have no meaningful txid. Drop them and mark everything so far as pruned, so
+-- readers still positioned on the old seq numbering do a single full reload.
+DELETE FROM posting_change_log;
+INSERT INTO posting_change_log_state (id, pruned_through)
+VALUES (1, pg_current_xact_id()::text::bigint)
+ON CONFLICT (id) DO UPDATE SET pruned_through = EXCLUDED.pruned_through;
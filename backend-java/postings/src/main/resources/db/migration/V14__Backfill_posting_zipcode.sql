@@ -0,0 +1,15 @@
+-- Backfill posting_dashboard.zipcode (added in V6) from the dealer who created the post, so posts
+-- created before V6 take part in radius matching too. The dealer table belongs to the dealer
+-- service; on a database without it the backfill is skipped and those posts keep matching by location.
+
+DO $$
+BEGIN
+    IF to_regclass('dealer') IS NOT NULL THEN
+        UPDATE posting_dashboard p
+        SET zipcode = LEFT(TRIM(d.zipcode), 10)
+        FROM dealer d
+        WHERE p.zipcode IS NULL
+          AND LOWER(p.email) = LOWER(d.email)
+          AND NULLIF(TRIM(d.zipcode), '') IS NOT NULL;
+    END IF;
+END $$;
@@ -0,0 +1,14 @@
+-- Daily stats count UTC days. The service stores timestamps as UTC (hibernate.jdbc.time_zone=UTC)
+-- and PostingDailyStats.dayOf buckets by UTC, so CAST(created_at AS DATE) below is the same UTC day;
+-- a TIMESTAMP without time zone casts to DATE without consulting the session TimeZone.
+-- The V10 backfill and the increments since then used whatever zone the JVM ran in (UTC in the
+-- deployed containers), so rebuild the whole rollup once from live and archived posts.
+
+DELETE FROM posting_daily_stats;
+
+-- Rows without created_at are counted on 1970-01-01, matching the application
+INSERT INTO posting_daily_stats (stat_day, location, status, post_count)
+SELECT COALESCE(CAST(created_at AS DATE), DATE '1970-01-01'), COALESCE(TRIM(location), ''),
+       COALESCE(status, 'UNKNOWN'), COUNT(*)
+FROM posting_with_history
+GROUP BY 1, 2, 3;
@@ -0,0 +1,15 @@
+-- Composite indexes backing the keyset-paginated feed endpoint (GET /post/feed)
+-- Feed queries filter on normalized location and status and page by id
+
+-- Location + explicit status filter, ordered by id
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_feed_location_status_id
+    ON posting_dashboard (LOWER(TRIM(location)), status, id);
+
+-- Default feed (active posts only) for a location, ordered by id
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_feed_active_location_id
+    ON posting_dashboard (LOWER(TRIM(location)), id)
+    WHERE status NOT IN ('DELETED', 'ACCEPTED');
+
+-- Status filter without location, ordered by id
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_feed_status_id
+    ON posting_dashboard (status, id);
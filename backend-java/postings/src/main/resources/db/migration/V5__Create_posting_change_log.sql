@@ -0,0 +1,14 @@
+-- Append-only change log for posting_dashboard
+-- seq is the monotonic sequence clients sync from via GET /post/changes?since=N
+
+CREATE TABLE IF NOT EXISTS posting_change_log (
+    seq BIGSERIAL PRIMARY KEY,
+    post_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    status VARCHAR(50),
+    location VARCHAR(255),
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_posting_change_log_post_id ON posting_change_log(post_id);
+CREATE INDEX IF NOT EXISTS idx_posting_change_log_changed_at ON posting_change_log(changed_at);
@@ -0,0 +1,6 @@
+-- Dealer zipcode copied onto each posting for radius matching in the technician feed
+
+ALTER TABLE posting_dashboard ADD COLUMN IF NOT EXISTS zipcode VARCHAR(10);
+
+-- Backfill is left to the application: older posts without a zipcode still match by location
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_zipcode ON posting_dashboard (zipcode);
@@ -0,0 +1,23 @@
+-- Numeric offer amounts: integer cents alongside the display strings
+-- The application keeps *_cents in sync on every write; this migration backfills existing rows
+
+ALTER TABLE posting_dashboard ADD COLUMN IF NOT EXISTS offer_cents BIGINT;
+ALTER TABLE counter_offers ADD COLUMN IF NOT EXISTS requested_offer_cents BIGINT;
+
+UPDATE posting_dashboard
+SET offer_cents = ROUND(CAST(NULLIF(REGEXP_REPLACE(offer_amount, '[^0-9.]', '', 'g'), '') AS NUMERIC) * 100)
+WHERE offer_cents IS NULL
+  AND REGEXP_REPLACE(offer_amount, '[^0-9.]', '', 'g') ~ '^[0-9]*\.?[0-9]+$';
+
+UPDATE counter_offers
+SET requested_offer_cents = ROUND(CAST(NULLIF(REGEXP_REPLACE(requested_offer_amount, '[^0-9.]', '', 'g'), '') AS NUMERIC) * 100)
+WHERE requested_offer_cents IS NULL
+  AND REGEXP_REPLACE(requested_offer_amount, '[^0-9.]', '', 'g') ~ '^[0-9]*\.?[0-9]+$';
+
+-- Offer range filters on active posts, and premium (>= $500) detection
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_active_offer_cents
+    ON posting_dashboard (offer_cents, id)
+    WHERE status NOT IN ('DELETED', 'ACCEPTED');
+
+CREATE INDEX IF NOT EXISTS idx_counter_offers_requested_offer_cents
+    ON counter_offers (requested_offer_cents);
@@ -0,0 +1,10 @@
+-- Indexes backing the database-paginated admin post listing (GET /admin/posts)
+-- Admin pages are ordered by id descending and keyset-paged with beforeId
+
+-- Dealer email filter, ordered by id
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_admin_email_id
+    ON posting_dashboard (email, id);
+
+-- Date range listing and count (GET /admin/posts/by-date-range)
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_created_at
+    ON posting_dashboard (created_at);
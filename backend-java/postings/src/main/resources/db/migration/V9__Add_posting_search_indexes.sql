@@ -0,0 +1,22 @@
+-- Full-text and trigram search for admin post search
+-- search_vector is a stored generated column, so PostgreSQL keeps it current on every insert and update
+-- Requires PostgreSQL 12+ and permission to create the pg_trgm extension
+
+ALTER TABLE posting_dashboard ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(content, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(location, '')), 'B') ||
+        setweight(to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(vin, '') || ' ' || COALESCE(auction_lot, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_search_vector
+    ON posting_dashboard USING GIN (search_vector);
+
+-- Partial (ILIKE '%term%') matches on location and email
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_location_trgm
+    ON posting_dashboard USING GIN (location gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_posting_dashboard_email_trgm
+    ON posting_dashboard USING GIN (email gin_trgm_ops);
@@ -0,0 +1,78 @@
+package com.auto.postings;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Latency samples of one benchmark run, summarised as throughput and percentiles. Thread-safe, so
+ * concurrent workers can share one recorder.
+ */
+public final class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int size;
+    private long startNanos;
+    private long endNanos;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Mark the start of the measured wall-clock window
+     */
+    public void begin() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the end of the measured wall-clock window
+     */
+    public void end() {
+        endNanos = System.nanoTime();
+    }
+
+    public <T> T time(Callable<T> operation) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return operation.call();
+        } finally {
+            add(System.nanoTime() - start);
+        }
+    }
+
+    private synchronized void add(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+
+    public double throughputPerSecond() {
+        return count() / ((endNanos - startNanos) / 1_000_000_000.0);
+    }
+
+    public String summary() {
+        return String.format("%-34s %6d ops %10.1f ops/s   p50 %7.2f ms   p99 %7.2f ms   max %7.2f ms",
+                name, count(), throughputPerSecond(), percentileMillis(50), percentileMillis(99), percentileMillis(100));
+    }
+}
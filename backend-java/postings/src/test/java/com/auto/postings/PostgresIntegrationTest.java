@@ -0,0 +1,141 @@
+package com.auto.postings;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.auto.postings.client.DealerClient;
+import com.auto.postings.client.TechnicianClient;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+import com.auto.postings.repository.AcceptedPostBatchRepository;
+import com.auto.postings.repository.AcceptedPostRepository;
+import com.auto.postings.repository.PostingChangeBatchRepository;
+import com.auto.postings.repository.PostingChangeRepository;
+import com.auto.postings.repository.PostingRepository;
+import com.auto.postings.service.DealerProfileCache;
+import com.auto.postings.service.PostingChangeLogService;
+import com.auto.postings.service.PostingDailyStatsService;
+import com.auto.postings.service.PostingService;
+import com.auto.postings.webSocket.WebSocketDealerNotifier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Base for tests that depend on real PostgreSQL behaviour (conditional UPDATEs, row locks,
+ * rollback): PostingService and the change-log and stats services over a throwaway PostgreSQL
+ * container, with the schema generated from the entities and the remote clients and WebSocket
+ * notifier mocked. The data-access beans are spies, so tests can also count calls on them. Tests run
+ * outside a test transaction, so they see what the service committed. Skipped where Docker is unavailable.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PostingService.class, PostingChangeLogService.class, PostingDailyStatsService.class,
+        AcceptedPostBatchRepository.class, PostingChangeBatchRepository.class, SimpleMeterRegistry.class })
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @MockBean
+    protected DealerProfileCache dealerProfileCache;
+
+    @MockBean
+    protected TechnicianClient technicianClient;
+
+    @MockBean
+    protected DealerClient dealerClient;
+
+    @MockBean
+    protected WebSocketDealerNotifier webSocketDealerNotifier;
+
+    @SpyBean
+    protected PostingChangeLogService changeLogService;
+
+    @SpyBean
+    protected PostingChangeRepository changeRepository;
+
+    @SpyBean
+    protected PostingRepository postingRepository;
+
+    @SpyBean
+    protected AcceptedPostRepository acceptedPostRepository;
+
+    @SpyBean
+    protected AcceptedPostBatchRepository acceptedPostBatchRepository;
+
+    @Autowired
+    protected PostingService postingService;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        // One container for every test class; start() is a no-op once it is running
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @AfterEach
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE posting_dashboard, accepted_posts, posting_change_log, posting_daily_stats RESTART IDENTITY");
+    }
+
+    /**
+     * A committed PENDING posting in the location
+     */
+    protected Posting pendingPosting(String location) {
+        return postingRepository.save(newPendingPosting(location));
+    }
+
+    /**
+     * IDs of count committed PENDING postings, in insertion order
+     */
+    protected List<Long> pendingPostingIds(int count) {
+        List<Posting> postings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            postings.add(newPendingPosting("austin"));
+        }
+        return postingRepository.saveAll(postings).stream().map(Posting::getId).toList();
+    }
+
+    private static Posting newPendingPosting(String location) {
+        Posting posting = new Posting();
+        posting.setEmail("dealer@example.com");
+        posting.setContent("Pre-purchase inspection");
+        posting.setLocation(location);
+        posting.setOfferAmount("150");
+        posting.setStatus(PostStatus.PENDING);
+        return posting;
+    }
+
+    protected long count(String sql, Object... args) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,135 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auto.postings.LatencyRecorder;
+import com.auto.postings.PostgresIntegrationTest;
+
+/**
+ * Contention benchmark for post acceptance: TECHNICIANS threads race through the same POSTS
+ * pending posts, so every post is contested by all of them and exactly one attempt per post wins.
+ * Compares the former row-lock acceptance (SELECT ... FOR UPDATE, then UPDATE) with the conditional
+ * UPDATE ... WHERE status = 'PENDING', both as the same plain JDBC statements so only the locking
+ * differs, and the conditional UPDATE once more through PostingService.acceptPostDirectly.
+ * Prints throughput and latency percentiles per variant.
+ *
+ * Run with: mvn test -Dtest=AcceptContentionBenchmarkTest -Dbenchmark=true (needs Docker)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AcceptContentionBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int POSTS = 200;
+    private static final int TECHNICIANS = 16;
+    private static final int WARMUP_POSTS = 50;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    interface Acceptor {
+        boolean accept(long postId, String technicianEmail);
+    }
+
+    @Test
+    void rowLockVersusConditionalUpdate() throws Exception {
+        run(new LatencyRecorder("warmup (row lock)"), WARMUP_POSTS, this::acceptWithRowLock);
+        run(new LatencyRecorder("warmup (conditional update)"), WARMUP_POSTS, this::acceptWithConditionalUpdate);
+
+        List<LatencyRecorder> results = List.of(
+                run(new LatencyRecorder("SELECT FOR UPDATE (before)"), POSTS, this::acceptWithRowLock),
+                run(new LatencyRecorder("conditional UPDATE (after)"), POSTS, this::acceptWithConditionalUpdate),
+                run(new LatencyRecorder("PostingService.acceptPostDirectly"), POSTS,
+                        (postId, technicianEmail) -> postingService.acceptPostDirectly(postId, technicianEmail, null)));
+
+        System.out.printf("%nAccept contention: %d posts x %d technicians%n", POSTS, TECHNICIANS);
+        results.forEach(result -> System.out.println(result.summary()));
+    }
+
+    private LatencyRecorder run(LatencyRecorder recorder, int posts, Acceptor acceptor) throws Exception {
+        List<Long> postIds = pendingPostingIds(posts);
+        AtomicInteger wins = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(TECHNICIANS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < TECHNICIANS; t++) {
+                String technicianEmail = "tech" + t + "@example.com";
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (Long postId : postIds) {
+                        if (recorder.time(() -> acceptor.accept(postId, technicianEmail))) {
+                            wins.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            recorder.begin();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+            recorder.end();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(wins.get()).as(recorder.summary()).isEqualTo(posts);
+        return recorder;
+    }
+
+    // Former acceptance: lock the row for the whole transaction, then check and update it
+    private boolean acceptWithRowLock(long postId, String technicianEmail) {
+        return transactionTemplate.execute(status -> {
+            String current = jdbcTemplate.queryForObject(
+                    "SELECT status FROM posting_dashboard WHERE id = ? FOR UPDATE", String.class, postId);
+            if (!"PENDING".equals(current)
+                    || count("SELECT COUNT(*) FROM accepted_posts WHERE post_id = ?", postId) > 0) {
+                return false;
+            }
+            jdbcTemplate.update("UPDATE posting_dashboard SET status = 'ACCEPTED', technician_email = ?, "
+                    + "accepted_at = now(), updated_at = now(), version = version + 1 WHERE id = ?", technicianEmail, postId);
+            writeAcceptance(postId, technicianEmail);
+            return true;
+        });
+    }
+
+    // Current acceptance: plain pre-check, the conditional UPDATE decides the race
+    private boolean acceptWithConditionalUpdate(long postId, String technicianEmail) {
+        return transactionTemplate.execute(status -> {
+            String current = jdbcTemplate.queryForObject(
+                    "SELECT status FROM posting_dashboard WHERE id = ?", String.class, postId);
+            if (!"PENDING".equals(current)) {
+                return false;
+            }
+            int updated = jdbcTemplate.update("UPDATE posting_dashboard SET status = 'ACCEPTED', technician_email = ?, "
+                    + "accepted_at = now(), updated_at = now(), version = version + 1 "
+                    + "WHERE id = ? AND status = 'PENDING'", technicianEmail, postId);
+            if (updated == 0) {
+                return false;
+            }
+            writeAcceptance(postId, technicianEmail);
+            return true;
+        });
+    }
+
+    // The change-log and accepted_posts rows both variants write for the winner
+    private void writeAcceptance(long postId, String technicianEmail) {
+        jdbcTemplate.update("INSERT INTO posting_change_log (post_id, change_type, status, location, changed_at) "
+                + "VALUES (?, 'ACCEPTED', 'ACCEPTED', 'austin', now())", postId);
+        jdbcTemplate.update("INSERT INTO accepted_posts (post_id, technician_email, accepted_at, created_at) "
+                + "VALUES (?, ?, now(), now())", postId, technicianEmail);
+    }
+}
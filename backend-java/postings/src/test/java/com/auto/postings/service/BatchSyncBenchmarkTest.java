@@ -0,0 +1,88 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auto.postings.LatencyRecorder;
+import com.auto.postings.PostgresIntegrationTest;
+import com.auto.postings.dto.DealerAcceptedPostUpdateFromTechDashDto;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+import com.auto.postings.model.PostingChange;
+
+/**
+ * Tech-dashboard sync timing: the former per-post loop (findById, then findByPostId + save for
+ * accepted_posts, then a change-log insert per post) against saveMultiplePostings, for several
+ * batch sizes. The loop is given a single transaction too, which only flatters it. Prints the
+ * time per sync and per post.
+ *
+ * Run with: mvn test -Dtest=BatchSyncBenchmarkTest -Dbenchmark=true (needs Docker)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchSyncBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int[] BATCH_SIZES = { 1, 50, 500 };
+    private static final int RUNS = 5;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void perPostLoopVersusBatch() throws Exception {
+        // Warm up both paths (class loading, JIT, statement caches)
+        syncWithLoop(PostingServiceBatchSyncTest.updates(pendingPostingIds(100)));
+        postingService.saveMultiplePostings(PostingServiceBatchSyncTest.updates(pendingPostingIds(100)));
+
+        List<String> lines = new ArrayList<>();
+        for (int batchSize : BATCH_SIZES) {
+            LatencyRecorder loop = new LatencyRecorder("per-post loop, " + batchSize + " posts");
+            LatencyRecorder batch = new LatencyRecorder("saveMultiplePostings, " + batchSize + " posts");
+            for (int run = 0; run < RUNS; run++) {
+                List<DealerAcceptedPostUpdateFromTechDashDto> loopUpdates = PostingServiceBatchSyncTest.updates(pendingPostingIds(batchSize));
+                List<DealerAcceptedPostUpdateFromTechDashDto> batchUpdates = PostingServiceBatchSyncTest.updates(pendingPostingIds(batchSize));
+                assertThat(loop.time(() -> syncWithLoop(loopUpdates))).hasSize(batchSize);
+                assertThat(batch.time(() -> postingService.saveMultiplePostings(batchUpdates))).hasSize(batchSize);
+            }
+            for (LatencyRecorder recorder : List.of(loop, batch)) {
+                lines.add(String.format("%-34s p50 %8.2f ms/sync %8.3f ms/post   max %8.2f ms/sync", recorder.getName(),
+                        recorder.percentileMillis(50), recorder.percentileMillis(50) / batchSize, recorder.percentileMillis(100)));
+            }
+        }
+
+        System.out.printf("%nTech-dashboard sync, median of %d runs%n", RUNS);
+        lines.forEach(System.out::println);
+    }
+
+    // The sync as it was before batching: one lookup, accepted_posts check/insert and log insert per post
+    private List<Posting> syncWithLoop(List<DealerAcceptedPostUpdateFromTechDashDto> updates) {
+        return transactionTemplate.execute(status -> {
+            List<Posting> updated = new ArrayList<>();
+            for (DealerAcceptedPostUpdateFromTechDashDto dto : updates) {
+                postingRepository.findById(dto.getPostId()).ifPresent(post -> {
+                    post.setStatus(dto.getStatus());
+                    post.setAcceptedAt(dto.getAcceptedAt());
+                    post.setTechnicianEmail(dto.getTechnicianEmail());
+                    post.setTechnicianName(dto.getTechnicianName());
+                    if (dto.getStatus() == PostStatus.ACCEPTED) {
+                        postingService.saveToAcceptedPostsTable(dto.getPostId(), dto.getTechnicianEmail(),
+                                post.getOfferAmount(), "Post accepted by technician: " + dto.getTechnicianName());
+                    }
+                    updated.add(post);
+                });
+            }
+            List<Posting> saved = postingRepository.saveAll(updated);
+            for (Posting post : saved) {
+                changeLogService.record(post, post.getStatus() == PostStatus.ACCEPTED
+                        ? PostingChange.ChangeType.ACCEPTED : PostingChange.ChangeType.UPDATED);
+            }
+            return saved;
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.time.LocalDate;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.auto.postings.PostgresIntegrationTest;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.PostingDailyStats;
+
+/**
+ * The daily stats rollup moves with the posting write it counts
+ */
+class PostingDailyStatsServiceTest extends PostgresIntegrationTest {
+
+    @Test
+    void statsRollBackWhenChangeLogInsertFails() {
+        // Fails after applyTransition has upserted the bucket
+        doThrow(new DataAccessResourceFailureException("change log unavailable")).when(changeRepository).save(any());
+
+        assertThatThrownBy(() -> postingService.savePosting("dealer@example.com", "Engine check", "austin",
+                "200", PostStatus.PENDING, null, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(count("SELECT COUNT(*) FROM posting_dashboard")).isZero();
+        assertThat(count("SELECT COALESCE(SUM(post_count), 0) FROM posting_daily_stats")).isZero();
+    }
+
+    @Test
+    void statsCountCommittedPosting() {
+        postingService.savePosting("dealer@example.com", "Engine check", "austin", "200", PostStatus.PENDING, null, null);
+
+        assertThat(count("SELECT post_count FROM posting_daily_stats WHERE location = 'austin' AND status = 'PENDING'"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void bucketDayMatchesSqlDateWhateverTheJvmZone() {
+        TimeZone jvmZone = TimeZone.getDefault();
+        // UTC+14: for most of the UTC day the local date is already tomorrow
+        TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Kiritimati"));
+        try {
+            postingService.savePosting("dealer@example.com", "Engine check", "austin", "200", PostStatus.PENDING, null, null);
+        } finally {
+            TimeZone.setDefault(jvmZone);
+        }
+
+        // The expression the V15 rebuild and PostingDailyStatsRepository.rebuildDays bucket by
+        String sqlDay = jdbcTemplate.queryForObject("SELECT CAST(CAST(created_at AS DATE) AS TEXT) FROM posting_dashboard", String.class);
+        String statDay = jdbcTemplate.queryForObject("SELECT CAST(stat_day AS TEXT) FROM posting_daily_stats", String.class);
+        assertThat(statDay).isEqualTo(sqlDay);
+        assertThat(LocalDate.parse(statDay)).isBetween(
+                LocalDate.now(PostingDailyStats.STATS_ZONE).minusDays(1), LocalDate.now(PostingDailyStats.STATS_ZONE));
+    }
+}
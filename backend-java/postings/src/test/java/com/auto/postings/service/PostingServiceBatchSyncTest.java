@@ -0,0 +1,80 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.auto.postings.PostgresIntegrationTest;
+import com.auto.postings.dto.DealerAcceptedPostUpdateFromTechDashDto;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.PostingChange;
+
+/**
+ * Tech-dashboard sync against PostgreSQL. Before the batch rewrite every update cost findById +
+ * findByPostId + save + a change-log insert, so a 500-post sync made about 2,000 round trips; it
+ * should now make the same handful of data-access calls at any batch size. The timing comparison
+ * lives in BatchSyncBenchmarkTest.
+ */
+class PostingServiceBatchSyncTest extends PostgresIntegrationTest {
+
+    @Test
+    void roundTripsDoNotGrowWithBatchSize() {
+        int single = roundTrips(1);
+        int batch = roundTrips(500);
+
+        assertThat(batch).as("a 500-post sync should make as many data-access calls as a single-post sync")
+                .isEqualTo(single);
+    }
+
+    @Test
+    void changeLogIsWrittenInBatches() {
+        postingService.saveMultiplePostings(updates(pendingPostingIds(500)));
+
+        verify(changeLogService).recordAll(Mockito.argThat(posts -> posts.size() == 250), eq(PostingChange.ChangeType.ACCEPTED));
+        verify(changeLogService).recordAll(Mockito.argThat(posts -> posts.size() == 250), eq(PostingChange.ChangeType.UPDATED));
+        verify(changeLogService, never()).record(any(), any());
+        verify(postingRepository, never()).findById(any());
+
+        assertThat(count("SELECT COUNT(*) FROM posting_dashboard WHERE status = 'ACCEPTED'")).isEqualTo(250);
+        assertThat(count("SELECT COUNT(*) FROM accepted_posts")).isEqualTo(250);
+        assertThat(count("SELECT COUNT(*) FROM posting_change_log WHERE change_type = 'ACCEPTED'")).isEqualTo(250);
+        assertThat(count("SELECT COUNT(*) FROM posting_change_log WHERE change_type = 'UPDATED'")).isEqualTo(250);
+    }
+
+    private int roundTrips(int batchSize) {
+        List<DealerAcceptedPostUpdateFromTechDashDto> updates = updates(pendingPostingIds(batchSize));
+        Mockito.clearInvocations(postingRepository, acceptedPostRepository, acceptedPostBatchRepository, changeLogService);
+        postingService.saveMultiplePostings(updates);
+        return mockingDetails(postingRepository).getInvocations().size()
+                + mockingDetails(acceptedPostRepository).getInvocations().size()
+                + mockingDetails(acceptedPostBatchRepository).getInvocations().size()
+                + mockingDetails(changeLogService).getInvocations().size();
+    }
+
+    /**
+     * Every other update accepts its post, the rest only reschedule
+     */
+    static List<DealerAcceptedPostUpdateFromTechDashDto> updates(List<Long> postIds) {
+        List<DealerAcceptedPostUpdateFromTechDashDto> dtos = new ArrayList<>(postIds.size());
+        for (int i = 0; i < postIds.size(); i++) {
+            DealerAcceptedPostUpdateFromTechDashDto dto = new DealerAcceptedPostUpdateFromTechDashDto();
+            dto.setPostId(postIds.get(i));
+            dto.setStatus(i % 2 == 0 ? PostStatus.ACCEPTED : PostStatus.PENDING);
+            dto.setAcceptedAt(new Date());
+            dto.setTechnicianEmail("tech" + i + "@example.com");
+            dto.setTechnicianName("Tech " + i);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
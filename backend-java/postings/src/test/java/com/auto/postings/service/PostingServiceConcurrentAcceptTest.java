@@ -0,0 +1,87 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.auto.postings.PostgresIntegrationTest;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+
+/**
+ * Several technicians accept the same post at once against a real PostgreSQL. Every one of them
+ * can pass the PENDING pre-check, so the conditional UPDATE alone decides the winner: exactly one
+ * row change, one change-log entry, one accepted_posts row and one notification.
+ */
+class PostingServiceConcurrentAcceptTest extends PostgresIntegrationTest {
+
+    private static final int TECHNICIANS = 16;
+
+    @Test
+    void exactlyOneTechnicianWins() throws Exception {
+        Posting posting = postingService.savePosting("dealer@example.com", "Engine check", "austin", "200",
+                PostStatus.PENDING, null, null);
+        Long postId = posting.getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(TECHNICIANS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < TECHNICIANS; i++) {
+                String technicianEmail = "tech" + i + "@example.com";
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return postingService.acceptPostDirectly(postId, technicianEmail, null);
+                }));
+            }
+            start.countDown();
+
+            List<String> winners = new ArrayList<>();
+            for (int i = 0; i < TECHNICIANS; i++) {
+                if (results.get(i).get(30, TimeUnit.SECONDS)) {
+                    winners.add("tech" + i + "@example.com");
+                }
+            }
+            assertThat(winners).hasSize(1);
+
+            // One UPDATE took effect: the version was bumped once and the row names the winner
+            assertThat(count("SELECT version FROM posting_dashboard WHERE id = ?", postId)).isEqualTo(posting.getVersion() + 1);
+            assertThat(jdbcTemplate.queryForObject("SELECT technician_email FROM posting_dashboard WHERE id = ? AND status = 'ACCEPTED'",
+                    String.class, postId)).isEqualTo(winners.get(0));
+            assertThat(count("SELECT COUNT(*) FROM posting_change_log WHERE post_id = ? AND change_type = 'ACCEPTED'", postId)).isEqualTo(1);
+            assertThat(count("SELECT COUNT(*) FROM accepted_posts WHERE post_id = ?", postId)).isEqualTo(1);
+            assertThat(count("SELECT COALESCE(SUM(post_count), 0) FROM posting_daily_stats WHERE status = 'ACCEPTED'")).isEqualTo(1);
+            assertThat(count("SELECT COALESCE(SUM(post_count), 0) FROM posting_daily_stats WHERE status = 'PENDING'")).isZero();
+            verify(webSocketDealerNotifier, timeout(1000).times(1)).notifyPostAccepted(postId);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void lateAcceptorIsRejectedWithoutSideEffects() {
+        Posting posting = postingService.savePosting("dealer@example.com", "Engine check", "austin", "200",
+                PostStatus.PENDING, null, null);
+        assertThat(postingService.acceptPostDirectly(posting.getId(), "first@example.com", null)).isTrue();
+
+        assertThat(postingService.acceptPostDirectly(posting.getId(), "late@example.com", "300")).isFalse();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT technician_email FROM posting_dashboard WHERE id = ?",
+                String.class, posting.getId())).isEqualTo("first@example.com");
+        assertThat(count("SELECT COUNT(*) FROM posting_change_log WHERE post_id = ? AND change_type = 'ACCEPTED'",
+                posting.getId())).isEqualTo(1);
+        // Only the first acceptance was announced
+        verify(webSocketDealerNotifier, times(1)).notifyPostAccepted(posting.getId());
+    }
+}
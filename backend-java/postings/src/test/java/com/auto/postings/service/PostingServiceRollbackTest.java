@@ -0,0 +1,80 @@
+package com.auto.postings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auto.postings.PostgresIntegrationTest;
+import com.auto.postings.dto.DeletePostRequestByIdDto;
+import com.auto.postings.dto.EditPostRequestDto;
+import com.auto.postings.model.PostStatus;
+import com.auto.postings.model.Posting;
+
+/**
+ * A posting write and its change-log entry commit together: when recording the change fails,
+ * the posting write rolls back and no notification goes out.
+ */
+class PostingServiceRollbackTest extends PostgresIntegrationTest {
+
+    @BeforeEach
+    void failChangeLog() {
+        doThrow(new IllegalStateException("change log unavailable")).when(changeLogService).record(any(), any());
+    }
+
+    @Test
+    void savePostingRollsBackWhenRecordFails() {
+        assertThatThrownBy(() -> postingService.savePosting("dealer@example.com", "Engine check", "austin",
+                "200", PostStatus.PENDING, null, null))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(count("SELECT COUNT(*) FROM posting_dashboard")).isZero();
+        verify(webSocketDealerNotifier, never()).notifyNewPost(any());
+    }
+
+    @Test
+    void updatePostByIdRollsBackWhenRecordFails() {
+        Posting posting = pendingPosting("austin");
+        EditPostRequestDto dto = new EditPostRequestDto();
+        dto.setId(posting.getId());
+        dto.setContent("Edited content");
+        dto.setStatus("ACCEPTED");
+        dto.setTechnicianEmail("tech@example.com");
+        dto.setTechnicianPhone("5125550100");
+
+        assertThatThrownBy(() -> postingService.updatePostById(dto)).isInstanceOf(IllegalStateException.class);
+
+        Posting stored = postingRepository.findById(posting.getId()).orElseThrow();
+        assertThat(stored.getContent()).isEqualTo(posting.getContent());
+        assertThat(stored.getStatus()).isEqualTo(PostStatus.PENDING);
+        assertThat(count("SELECT COUNT(*) FROM accepted_posts")).isZero();
+        verify(webSocketDealerNotifier, never()).notifyPostAccepted(any());
+    }
+
+    @Test
+    void deletePostByIdRollsBackWhenRecordFails() {
+        Posting posting = pendingPosting("austin");
+        DeletePostRequestByIdDto dto = new DeletePostRequestByIdDto();
+        dto.setId(posting.getId());
+
+        assertThatThrownBy(() -> postingService.deletePostById(dto)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(postingRepository.findById(posting.getId()).orElseThrow().getStatus()).isEqualTo(PostStatus.PENDING);
+    }
+
+    @Test
+    void restoreDeletedPostRollsBackWhenRecordFails() {
+        Posting posting = pendingPosting("austin");
+        posting.setStatus(PostStatus.DELETED);
+        postingRepository.save(posting);
+
+        assertThatThrownBy(() -> postingService.restoreDeletedPost(posting.getId())).isInstanceOf(IllegalStateException.class);
+
+        assertThat(postingRepository.findById(posting.getId()).orElseThrow().getStatus()).isEqualTo(PostStatus.DELETED);
+    }
+}
@@ -6,8 +6,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.auto.technician.dashboard.dto.DealerPostUpdateDto;
+import com.auto.technician.dashboard.dto.PostingFeedPageDto;
 import com.auto.technician.dashboard.dto.TechnicianPostsDTO;
 
 
@@ -18,6 +20,11 @@ public interface PostingClient {
 
    @GetMapping("/post")
    List<TechnicianPostsDTO> getAllPostings();
+
+   // Keyset-paginated feed page - pass the previous page's nextCursor as afterId
+   @GetMapping("/post/feed")
+   PostingFeedPageDto getFeedPage(@RequestParam(value = "afterId", required = false) Long afterId,
+                                  @RequestParam(value = "size", required = false) Integer size);
 	
 	 
 	 
@@ -0,0 +1,13 @@
+package com.auto.technician.dashboard.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PostingFeedPageDto {
+    private List<TechnicianPostsDTO> posts;
+    private Long nextCursor;
+    private boolean hasMore;
+    private int size;
+}
@@ -13,6 +13,7 @@ import com.auto.technician.dashboard.clients.PostingClient;
 import com.auto.technician.dashboard.clients.TechnicianClient;
 import com.auto.technician.dashboard.dto.DealerPostUpdateDto;
 import com.auto.technician.dashboard.dto.FeignEmailRequestDto;
+import com.auto.technician.dashboard.dto.PostingFeedPageDto;
 import com.auto.technician.dashboard.dto.TechnicianAcceptedPostResponseDto;
 import com.auto.technician.dashboard.dto.TechnicianDto;
 import com.auto.technician.dashboard.dto.TechnicianPostsDTO;
@@ -23,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TechnicianDashboardService {
 
+    private static final int FEED_PAGE_SIZE = 200;
+
     private final TechnicianClient technicianClient;
     private final PostingClient postingClient;
 
@@ -38,7 +41,7 @@ public class TechnicianDashboardService {
                 return ResponseEntity.ok("No accepted posts found for this technician.");
             }
 
-            List<TechnicianPostsDTO> allPostings = postingClient.getAllPostings();
+            List<TechnicianPostsDTO> allPostings = fetchPostingsInIdRange(acceptedPostIds);
 
         // ✅ Prepare both update list and response list
         List<DealerPostUpdateDto> updateList = allPostings.stream()
@@ -147,4 +150,26 @@ public class TechnicianDashboardService {
             return ResponseEntity.status(500).body("Error processing accepted posts: " + e.getMessage());
         }
     }
+
+    /**
+     * Page through the postings feed only across the ID range covering the accepted posts,
+     * instead of downloading every active posting
+     */
+    private List<TechnicianPostsDTO> fetchPostingsInIdRange(List<Long> postIds) {
+        long minId = postIds.stream().mapToLong(Long::longValue).min().orElse(0L);
+        long maxId = postIds.stream().mapToLong(Long::longValue).max().orElse(0L);
+
+        List<TechnicianPostsDTO> postings = new ArrayList<>();
+        Long afterId = minId - 1;
+        PostingFeedPageDto page;
+        do {
+            page = postingClient.getFeedPage(afterId, FEED_PAGE_SIZE);
+            if (page == null || page.getPosts() == null) {
+                break;
+            }
+            postings.addAll(page.getPosts());
+            afterId = page.getNextCursor();
+        } while (page.isHasMore() && afterId != null && afterId < maxId);
+        return postings;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+#!/bin/bash
+# Builds src/main/resources/geo/zip-centroids.csv (zipcode,latitude,longitude) from the
+# public-domain US Census ZCTA Gazetteer file. Run from the techincian directory before
+# packaging; pass a different Gazetteer year as the first argument if needed.
+set -euo pipefail
+
+YEAR="${1:-2023}"
+URL="https://www2.census.gov/geo/docs/maps-data/data/gazetteer/${YEAR}_Gazetteer/${YEAR}_Gaz_zcta_national.zip"
+OUT="src/main/resources/geo/zip-centroids.csv"
+TMP="$(mktemp -d)"
+trap 'rm -rf "$TMP"' EXIT
+
+echo "📥 Downloading ${URL}"
+curl -fsSL "$URL" -o "$TMP/gazetteer.zip"
+if command -v unzip > /dev/null; then
+    unzip -q -o "$TMP/gazetteer.zip" -d "$TMP"
+else
+    (cd "$TMP" && jar xf gazetteer.zip)
+fi
+
+{
+    echo "# Zipcode centroids from the US Census ${YEAR} ZCTA Gazetteer file (scripts/fetch-zip-centroids.sh)"
+    echo "zipcode,latitude,longitude"
+    awk -F'\t' '
+        NR == 1 { for (i = 1; i <= NF; i++) { gsub(/[ \r]/, "", $i); col[$i] = i }; next }
+        { gsub(/[ \r]/, ""); printf "%s,%s,%s\n", $col["GEOID"], $col["INTPTLAT"], $col["INTPTLONG"] }
+    ' "$TMP"/*.txt
+} > "$OUT"
+
+echo "✅ Wrote $(($(wc -l < "$OUT") - 2)) zipcode centroids to ${OUT}"
@@ -7,9 +7,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import com.auto.tech.dto.EventReplayResponseDTO;
+import com.auto.tech.dto.PostingChangesResponseDTO;
 import com.auto.tech.dto.PostingDTO;
+import com.auto.tech.dto.PostingFeedPageDto;
 import com.auto.tech.dto.PostStatusUpdateRequest;
+import com.auto.tech.dto.TechnicianEligibilityDTO;
 
 // @FeignClient(name = "postings")
 @FeignClient(name = "postings", url = "${gateway.url:https://api-gateway-rn0i.onrender.com}/api/v1")
@@ -20,6 +25,30 @@ public interface PostingClient {
     @GetMapping("/post")
     List<PostingDTO> getAllPostings();
 
+    // ✅ Keyset-paginated, server-side filtered feed page (view=feed selects only feed card columns)
+    @GetMapping("/post/feed")
+    PostingFeedPageDto getFeedPage(@RequestParam(value = "location", required = false) String location,
+                                   @RequestParam(value = "afterId", required = false) Long afterId,
+                                   @RequestParam(value = "size", required = false) Integer size,
+                                   @RequestParam(value = "view", required = false) String view);
+
+    // ✅ Posting change-log deltas after a sequence number
+    @GetMapping("/post/changes")
+    PostingChangesResponseDTO getChangesSince(@RequestParam("since") long since,
+                                              @RequestParam(value = "limit", required = false) Integer limit);
+
+    // ✅ WebSocket frames missed since a sequence number (replay after a reconnect)
+    @GetMapping("/post/events/replay")
+    EventReplayResponseDTO getEventReplay(@RequestParam("since") long since,
+                                          @RequestParam(value = "epoch", required = false) String epoch,
+                                          @RequestParam("destination") List<String> destinations,
+                                          @RequestParam(value = "limit", required = false) Integer limit);
+
+    // ✅ Rating multiplier and job eligibility from the postings RatingService
+    @GetMapping("/api/ratings/technician/{technicianEmail}/eligibility")
+    TechnicianEligibilityDTO checkTechnicianEligibility(@PathVariable("technicianEmail") String technicianEmail,
+                                                        @RequestParam("isPremiumJob") boolean isPremiumJob);
+
     // ✅ New - Get a specific post by ID
     // @GetMapping("/post/{id}")
     @GetMapping("/post/{id}")
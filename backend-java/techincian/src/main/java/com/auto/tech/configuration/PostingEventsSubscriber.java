@@ -0,0 +1,248 @@
+package com.auto.tech.configuration;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.auto.tech.client.PostingClient;
+import com.auto.tech.dto.EventReplayFrameDTO;
+import com.auto.tech.dto.EventReplayResponseDTO;
+import com.auto.tech.dto.PostingDTO;
+import com.auto.tech.service.TechnicianFeedIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Subscribes to the postings service STOMP broker and applies
+ * /topic/new-post/{location} and /topic/post-accepted events to the local feed index.
+ * The index covers every location, so it subscribes to the whole new-post topic tree.
+ * Both topics deliver batched frames (JSON arrays) from the postings event broadcaster.
+ * After a reconnect the frames sent during the gap are replayed from GET /post/events/replay,
+ * falling back to the posting change log when the gap is no longer covered. Behind a shared broker
+ * frames from several postings instances arrive interleaved, each instance numbering its own, so a
+ * position is kept per epoch; a replay request that reaches a different instance than the one that
+ * sent the frames also falls back to the change log.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostingEventsSubscriber {
+
+
+    // Replay matches Ant patterns whatever wildcard syntax the live subscription uses
+    private static final String NEW_POST_TOPICS = "/topic/new-post/**";
+    private static final String POST_ACCEPTED_TOPIC = "/topic/post-accepted";
+    private static final int REPLAY_PAGE_SIZE = 200;
+
+    private final TechnicianFeedIndex feedIndex;
+    private final ObjectMapper objectMapper;
+    private final PostingClient postingClient;
+
+    @Value("${postings-service.ws-url:ws://localhost:8081/ws}")
+    private String postingsWsUrl;
+
+    // Wildcard subscription to every location's new-post topic. The postings simple broker matches
+    // Ant patterns; behind a broker relay use the broker's own wildcard syntax instead
+    @Value("${postings-service.new-post-subscription:/topic/new-post/**}")
+    private String newPostSubscription;
+
+    @Value("${technician.feed-index.enabled:true}")
+    private boolean enabled;
+
+    private WebSocketStompClient stompClient;
+    private volatile StompSession session;
+
+    // epoch -> highest frame sequence received from the postings instance with that epoch
+    private final Map<String, Long> lastSeqByEpoch = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void connectOnStartup() {
+        if (enabled) {
+            connect();
+        }
+    }
+
+    /**
+     * Reconnect if the postings broker connection was lost; events sent during the gap are replayed
+     */
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void ensureConnected() {
+        if (enabled && (session == null || !session.isConnected())) {
+            connect();
+        }
+    }
+
+    private synchronized void connect() {
+        if (session != null && session.isConnected()) {
+            return;
+        }
+        try {
+            if (stompClient == null) {
+                MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+                converter.setObjectMapper(objectMapper);
+                stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+                stompClient.setMessageConverter(converter);
+            }
+            boolean reconnect = session != null;
+            // Captured before subscribing, since live frames start updating them right away
+            Map<String, Long> positionsBeforeReconnect = new HashMap<>(lastSeqByEpoch);
+            session = stompClient.connectAsync(postingsWsUrl, new FeedIndexSessionHandler()).get();
+            log.info("✅ [PostingEventsSubscriber] Connected to postings broker at {}", postingsWsUrl);
+            if (reconnect) {
+                replayMissedEvents(positionsBeforeReconnect);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [PostingEventsSubscriber] Could not connect to postings broker at {}: {}", postingsWsUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * Apply the frames sent since the last ones we saw. When postings no longer holds all of them
+     * (long gap, postings restarted, or the request reached another instance) the index catches up
+     * from the posting change log instead.
+     */
+    private void replayMissedEvents(Map<String, Long> positions) {
+        if (positions.isEmpty()) {
+            feedIndex.syncChanges();
+            return;
+        }
+        try {
+            int replayed = 0;
+            for (Map.Entry<String, Long> position : positions.entrySet()) {
+                String epoch = position.getKey();
+                long since = position.getValue();
+                EventReplayResponseDTO response;
+                do {
+                    response = postingClient.getEventReplay(since, epoch, List.of(NEW_POST_TOPICS, POST_ACCEPTED_TOPIC),
+                            REPLAY_PAGE_SIZE);
+                    if (response == null || response.isResetRequired()) {
+                        log.info("🔄 [PostingEventsSubscriber] Missed events of epoch {} since seq {} are not available, syncing change log",
+                                epoch, since);
+                        syncChangeLog(positions);
+                        return;
+                    }
+                    for (EventReplayFrameDTO frame : response.getFrames()) {
+                        applyFrame(frame);
+                        since = frame.getSeq();
+                        lastSeqByEpoch.merge(epoch, since, Math::max);
+                        replayed++;
+                    }
+                } while (response.isHasMore());
+            }
+            log.info("✅ [PostingEventsSubscriber] Replayed {} missed postings event frames", replayed);
+        } catch (Exception e) {
+            log.warn("⚠️ [PostingEventsSubscriber] Event replay failed, syncing change log: {}", e.getMessage());
+            syncChangeLog(positions);
+        }
+    }
+
+    /**
+     * Catch up from the change log, which covers every gap. Positions that saw no frame since the
+     * reconnect are dropped, so epochs of instances that are gone stop being replayed.
+     */
+    private void syncChangeLog(Map<String, Long> positions) {
+        feedIndex.syncChanges();
+        positions.forEach(lastSeqByEpoch::remove);
+    }
+
+    private void applyFrame(EventReplayFrameDTO frame) {
+        if (frame.getEvents() == null) {
+            return;
+        }
+        for (JsonNode event : frame.getEvents()) {
+            if (POST_ACCEPTED_TOPIC.equals(frame.getDestination())) {
+                feedIndex.removePost(event.asLong());
+            } else {
+                feedIndex.addPost(objectMapper.convertValue(event, PostingDTO.class));
+            }
+        }
+    }
+
+    /**
+     * Remember the sequence of a live frame against the epoch of the instance that sent it
+     */
+    private void track(StompHeaders headers) {
+        String seq = headers.getFirst("seq");
+        String epoch = headers.getFirst("epoch");
+        if (seq == null || epoch == null) {
+            return;
+        }
+        lastSeqByEpoch.merge(epoch, Long.parseLong(seq), Math::max);
+    }
+
+    @PreDestroy
+    public void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    private class FeedIndexSessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public void afterConnected(StompSession stompSession, StompHeaders connectedHeaders) {
+            stompSession.subscribe(newPostSubscription, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return PostingDTO[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    track(headers);
+                    for (PostingDTO post : (PostingDTO[]) payload) {
+                        feedIndex.addPost(post);
+                    }
+                }
+            });
+            stompSession.subscribe(POST_ACCEPTED_TOPIC, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Long[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    track(headers);
+                    for (Long postId : (Long[]) payload) {
+                        feedIndex.removePost(postId);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void handleException(StompSession stompSession, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            log.error("❌ [PostingEventsSubscriber] Error handling postings event: {}", exception.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession stompSession, Throwable exception) {
+            log.warn("⚠️ [PostingEventsSubscriber] Postings broker connection lost: {}", exception.getMessage());
+        }
+    }
+}
@@ -1,13 +1,56 @@
 package com.auto.tech.configuration;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.*;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import com.auto.websocket.WebSocketSessionLimitsConfig;
 
 @Configuration
-@EnableWebSocketMessageBroker
+// Broker support is enabled by WebSocketSessionLimitsConfig, which adds per-session send limits;
+// the shared STOMP classes (websocket-shared module) read their settings under websocket.prefix
+@ComponentScan(basePackageClasses = WebSocketSessionLimitsConfig.class)
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // simple   = in-memory broker, only reaches clients of this instance (single-instance deployments)
+    // relay    = forward /topic to an external STOMP broker so every instance shares topics
+    // embedded = host an EmbeddedStompBroker and relay to it; the other instances use relay pointed at this one
+    //            (local and test runs only, refused under the production profile)
+    @Value("${technician.ws.broker:simple}")
+    private String brokerMode;
+
+    @Value("${technician.ws.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${technician.ws.relay.port:61613}")
+    private int relayPort;
+
+    // No defaults: relay and embedded modes require explicit credentials
+    @Value("${technician.ws.relay.login:}")
+    private String relayLogin;
+
+    @Value("${technician.ws.relay.passcode:}")
+    private String relayPasscode;
+
+    @Value("${technician.ws.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${technician.ws.embedded.host:127.0.0.1}")
+    private String embeddedHost;
+
+    @Value("${technician.ws.embedded.port:61613}")
+    private int embeddedPort;
+
+    @Autowired
+    private Environment environment;
+
     // 🔗 Register the STOMP endpoint for clients to connect
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -20,7 +63,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     // 📡 Configure messaging broker (topics, application prefix)
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");         // Enables a simple in-memory message broker for topics
+        boolean embedded = "embedded".equalsIgnoreCase(brokerMode);
+        if (embedded || "relay".equalsIgnoreCase(brokerMode)) {
+            if (embedded && environment.acceptsProfiles(Profiles.of("production"))) {
+                throw new IllegalStateException("technician.ws.broker=embedded is not supported in production; use relay with an external STOMP broker");
+            }
+            if (relayLogin.isBlank() || relayPasscode.isBlank()) {
+                throw new IllegalStateException("technician.ws.broker=" + brokerMode + " requires technician.ws.relay.login and technician.ws.relay.passcode");
+            }
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                .setRelayHost(embedded ? embeddedHost : relayHost)
+                .setRelayPort(embedded ? embeddedPort : relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode);
+            if (!relayVirtualHost.isEmpty()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/topic");     // Enables a simple in-memory message broker for topics
+        }
         config.setApplicationDestinationPrefixes("/app"); // Prefix for messages bound for @MessageMapping (not used here, safe to keep)
     }
     
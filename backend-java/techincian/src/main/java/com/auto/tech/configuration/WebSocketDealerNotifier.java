@@ -1,17 +1,23 @@
 package com.auto.tech.configuration;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
+
+import com.auto.tech.dto.DealerUpdateEventDto;
 import com.auto.tech.dto.PostingDTO;
+import com.auto.websocket.StompEventBroadcaster;
+
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class WebSocketDealerNotifier {
 
-    @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    // Frames are JSON arrays of DealerUpdateEventDto, batched and coalesced per post by StompEventBroadcaster
+    public static final String DEALER_UPDATE_TOPIC = "/topic/dealer-update";
+
+    private final StompEventBroadcaster broadcaster;
 
     public void notifyDealerPostUpdated(PostingDTO post) {
-        messagingTemplate.convertAndSend("/topic/dealer-update", post); // 🔁 full object now
+        broadcaster.publish(DEALER_UPDATE_TOPIC, post.getId(), DealerUpdateEventDto.from(post));
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,12 @@ import com.auto.tech.model.TechDeclinedPosts;
 import com.auto.tech.model.TechCounterOffer;
 import com.auto.tech.model.TechnicianPerformanceMetrics;
 import com.auto.tech.model.TechnicianAuditLog;
+import com.auto.tech.service.TechnicianFeedVersions;
 import com.auto.tech.service.TechnicianService;
 import com.auto.tech.service.CounterOfferService;
 import com.auto.tech.service.TechnicianAnalyticsService;
 import com.auto.tech.service.EnhancedTechnicianFeedService;
+import com.auto.tech.service.TechnicianNotificationService;
 import com.auto.tech.repository.TechnicianRepository;
 import com.auto.tech.repository.CounterOfferRepository;
 import com.auto.tech.repository.AcceptedPostRepository;
@@ -54,6 +56,8 @@ public class AdminController {
     private final TechnicianPerformanceMetricsRepository performanceMetricsRepository;
     private final TechnicianPostInteractionRepository interactionRepository;
     private final TechnicianAuditLogRepository auditLogRepository;
+    private final TechnicianFeedVersions feedVersions;
+    private final TechnicianNotificationService notificationService;
 
     // ==================== TECHNICIAN MANAGEMENT ENDPOINTS ====================
 
@@ -203,6 +207,7 @@ public class AdminController {
                 if (technician.getDelearshipName() != null) existing.setDelearshipName(technician.getDelearshipName());
                 
                 Technician updated = technicianRepository.save(existing);
+                feedVersions.bumpTechnician(updated.getEmail());
                 return ResponseEntity.ok(updated);
             } else {
                 return ResponseEntity.notFound().build();
@@ -575,6 +580,7 @@ public class AdminController {
                 TechCounterOffer offer = counterOffer.get();
                 offer.markAsExpired();
                 counterOfferRepository.save(offer);
+                notificationService.counterOfferUpdated(offer);
                 return ResponseEntity.ok(Map.of("message", "Counter offer expired successfully"));
             } else {
                 return ResponseEntity.notFound().build();
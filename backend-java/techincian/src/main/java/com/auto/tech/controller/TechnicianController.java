@@ -9,6 +9,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +19,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.auto.websocket.EventReplayBuffer;
 import com.auto.tech.dto.CounterOfferRequest;
 import com.auto.tech.dto.GetTechAccpetedPostsByEmailDto;
 import com.auto.tech.dto.FeignEmailRequestDto;
@@ -46,6 +52,9 @@ import com.auto.tech.service.TechnicianService;
 import com.auto.tech.service.CounterOfferService;
 import com.auto.tech.service.EnhancedTechnicianFeedService;
 import com.auto.tech.service.TechnicianAnalyticsService;
+import com.auto.tech.service.TechnicianFeedStreamService;
+import com.auto.tech.service.TechnicianFeedVersions;
+import com.auto.tech.service.TechnicianNotificationService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -66,6 +75,10 @@ public class TechnicianController {
 	private final CounterOfferService counterOfferService;
 	private final EnhancedTechnicianFeedService enhancedFeedService;
 	private final TechnicianAnalyticsService analyticsService;
+	private final TechnicianFeedStreamService feedStreamService;
+	private final TechnicianFeedVersions feedVersions;
+	private final TechnicianNotificationService notificationService;
+	private final EventReplayBuffer replayBuffer;
 	private final TechnicianRepository repo;
 	private final AcceptedPostRepository acceptedPostRepo;
 	private final DeclinedPostsRepository declinedPostsRepo;
@@ -161,7 +174,8 @@ public class TechnicianController {
 		}
 	}
 	@PostMapping("/technician-feed")
-	public ResponseEntity<?> getTechnicianFeed(@RequestBody TechInfoToGetPostsByLocationDto dto) {
+	public ResponseEntity<?> getTechnicianFeed(@RequestBody TechInfoToGetPostsByLocationDto dto,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		try {
 			log.info("🔖 [TechnicianController] Received technician feed request for email: {}", 
 				dto != null ? dto.getEmail() : "null");
@@ -173,9 +187,20 @@ public class TechnicianController {
 				return ResponseEntity.status(400).body(error);
 			}
 			
+			// Unchanged since the client's last poll - answer from in-memory versions only
+			String eTag = feedVersions.currentETag(dto.getEmail(), dto.getLimit(), dto.getRadiusMiles());
+			if (TechnicianFeedVersions.matches(ifNoneMatch, eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+			}
+			
+			// Versioned before building so a change made meanwhile invalidates it on the next poll
+			String responseETag = feedVersions.prepareETag(dto.getEmail(), dto.getLimit(), dto.getRadiusMiles());
 			List<PostingDTO> feed = service.getFilteredFeed(dto);
 			log.info("✅ [TechnicianController] Successfully retrieved {} posts for technician feed", feed.size());
-			return ResponseEntity.ok(feed);
+			if (responseETag == null) {
+				return ResponseEntity.ok(feed);
+			}
+			return ResponseEntity.ok().eTag(responseETag).body(feed);
 			
 		} catch (Exception e) {
 			log.error("💥 [TechnicianController] Error retrieving technician feed: {}", e.getMessage(), e);
@@ -188,6 +213,30 @@ public class TechnicianController {
 	
 	
 	
+	/**
+	 * Streaming variant of /technician-feed over Server-Sent Events.
+	 * GET so it can be consumed with EventSource; the connection stays open for live updates.
+	 */
+	@GetMapping("/technician-feed/stream")
+	public ResponseEntity<?> streamTechnicianFeed(@RequestParam String email,
+			@RequestParam(required = false) Double radiusMiles) {
+		try {
+			if (email == null || email.trim().isEmpty()) {
+				Map<String, String> error = new HashMap<>();
+				error.put("error", "Email is required");
+				return ResponseEntity.status(400).body(error);
+			}
+			SseEmitter emitter = feedStreamService.openStream(email.trim(), radiusMiles);
+			return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+		} catch (Exception e) {
+			log.error("💥 [TechnicianController] Error opening technician feed stream: {}", e.getMessage(), e);
+			Map<String, String> error = new HashMap<>();
+			error.put("error", "Failed to open technician feed stream");
+			error.put("details", e.getMessage());
+			return ResponseEntity.status(500).body(error);
+		}
+	}
+	
     @PostMapping("/technician-posts-by-techloc")
     public List<PostingDTO> getAllPostingsFromPostingsService(@RequestBody FeignEmailRequestDto dto) {
         TechInfoToGetPostsByLocationDto serviceDto = new TechInfoToGetPostsByLocationDto();
@@ -1224,6 +1273,7 @@ public class TechnicianController {
             }
             
             Technician updated = repo.save(technician);
+            feedVersions.bumpTechnician(updated.getEmail());
             
             // Log the admin action
             TechnicianAuditLog auditLog = TechnicianAuditLog.builder()
@@ -1559,100 +1609,76 @@ public class TechnicianController {
         }
     }
 
+	/**
+	 * Notification inbox, newest first. Pass the previous response's nextCursor as "before" for the next page.
+	 */
 	@GetMapping("/{technicianId}/notifications")
-	public ResponseEntity<?> getNotifications(@PathVariable Long technicianId) {
+	public ResponseEntity<?> getNotifications(@PathVariable Long technicianId,
+			@RequestParam(required = false) Long before,
+			@RequestParam(required = false) Integer limit) {
 		try {
-			// First get the technician to get their email
 			Optional<Technician> technicianOpt = repo.findById(technicianId);
 			if (technicianOpt.isEmpty()) {
 				return ResponseEntity.notFound().build();
 			}
-			
-			String technicianEmail = technicianOpt.get().getEmail();
-			
-			// Get recent activity for the technician using email
-			List<TechAcceptedPost> acceptedPosts = acceptedPostRepo.findByEmail(technicianEmail);
-			List<TechDeclinedPosts> declinedPosts = declinedPostsRepo.findAllPostIdsByEmail(technicianEmail).stream()
-				.map(postId -> {
-					TechDeclinedPosts post = new TechDeclinedPosts();
-					post.setId(postId);
-					post.setPostId(postId);
-					post.setCreatedAt(LocalDateTime.now());
-					return post;
-				})
-				.collect(Collectors.toList());
-			List<TechCounterOffer> counterOffers = counterOfferRepo.findByTechnicianEmail(technicianEmail);
-			
-			List<Map<String, Object>> notifications = new ArrayList<>();
-			
-			// Add accepted post notifications
-			for (TechAcceptedPost post : acceptedPosts) {
-				Map<String, Object> notification = new HashMap<>();
-				notification.put("id", "acc_" + post.getId());
-				notification.put("message", "Post #" + post.getPostId() + " has been accepted and assigned to you");
-				notification.put("type", "success");
-				notification.put("read", false);
-				notification.put("timestamp", post.getCreatedAt() != null ? post.getCreatedAt() : post.getAcceptedAt());
-				notifications.add(notification);
-			}
-			
-			// Add declined post notifications
-			for (TechDeclinedPosts post : declinedPosts) {
-				Map<String, Object> notification = new HashMap<>();
-				notification.put("id", "dec_" + post.getId());
-				notification.put("message", "Post #" + post.getPostId() + " has been declined");
-				notification.put("type", "info");
-				notification.put("read", false);
-				notification.put("timestamp", post.getCreatedAt());
-				notifications.add(notification);
-			}
-			
-			// Add counter offer notifications
-			for (TechCounterOffer offer : counterOffers) {
-				Map<String, Object> notification = new HashMap<>();
-				notification.put("id", "co_" + offer.getId());
-				notification.put("message", "Counter offer for Post #" + offer.getPostId() + " - Status: " + offer.getStatus());
-				notification.put("type", "info");
-				notification.put("read", false);
-				notification.put("timestamp", offer.getRequestedAt());
-				notifications.add(notification);
+			return ResponseEntity.ok(notificationService.getPage(technicianOpt.get().getEmail(), before, limit));
+		} catch (Exception e) {
+			logger.error("Error fetching notifications for technician {}: {}", technicianId, e.getMessage());
+			return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch notifications"));
+		}
+	}
+
+	/**
+	 * Mark notifications as read. Body: {"notificationIds": [1, 2]}, or {"all": true} for the whole inbox
+	 */
+	@PostMapping("/{technicianId}/notifications/read")
+	public ResponseEntity<?> markNotificationsRead(@PathVariable Long technicianId, @RequestBody Map<String, Object> request) {
+		try {
+			Optional<Technician> technicianOpt = repo.findById(technicianId);
+			if (technicianOpt.isEmpty()) {
+				return ResponseEntity.notFound().build();
 			}
-			
-			// Sort by timestamp (newest first) - handle null timestamps
-			notifications.sort((a, b) -> {
-				Object timestampA = a.get("timestamp");
-				Object timestampB = b.get("timestamp");
-				
-				if (timestampA == null && timestampB == null) return 0;
-				if (timestampA == null) return 1;
-				if (timestampB == null) return -1;
-				
-				if (timestampA instanceof LocalDateTime && timestampB instanceof LocalDateTime) {
-					return ((LocalDateTime) timestampB).compareTo((LocalDateTime) timestampA);
-				}
-				if (timestampA instanceof Date && timestampB instanceof Date) {
-					return ((Date) timestampB).compareTo((Date) timestampA);
-				}
-				
-				return 0;
-			});
-			
-			// Limit to last 10 notifications
-			if (notifications.size() > 10) {
-				notifications = notifications.subList(0, 10);
+			String email = technicianOpt.get().getEmail();
+
+			long unreadCount;
+			if (Boolean.TRUE.equals(request.get("all"))) {
+				notificationService.markAllRead(email);
+				unreadCount = 0;
+			} else if (request.get("notificationIds") instanceof List<?> ids) {
+				List<Long> notificationIds = ids.stream()
+					.map(id -> Long.valueOf(id.toString()))
+					.collect(Collectors.toList());
+				unreadCount = notificationService.markRead(email, notificationIds);
+			} else {
+				return ResponseEntity.badRequest().body(Map.of(
+					"success", false,
+					"message", "Provide notificationIds or all=true"));
 			}
-			
+
 			Map<String, Object> response = new HashMap<>();
-			response.put("notifications", notifications);
-			response.put("unreadCount", notifications.stream().filter(n -> !(Boolean) n.get("read")).count());
-			
+			response.put("success", true);
+			response.put("unreadCount", unreadCount);
 			return ResponseEntity.ok(response);
+		} catch (NumberFormatException e) {
+			return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Invalid notification ID"));
 		} catch (Exception e) {
-			logger.error("Error fetching notifications for technician {}: {}", technicianId, e.getMessage());
-			return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch notifications"));
+			logger.error("Error marking notifications read for technician {}: {}", technicianId, e.getMessage());
+			return ResponseEntity.status(500).body(Map.of("success", false, "message", "Failed to update notifications"));
 		}
 	}
 
+	/**
+	 * WebSocket frames sent after a sequence number, for clients catching up after a reconnect
+	 * GET /api/technicians/events/replay?since=N&epoch=&destination=/topic/dealer-update&limit=
+	 */
+	@GetMapping("/events/replay")
+	public ResponseEntity<?> replayEvents(@RequestParam long since,
+			@RequestParam(required = false) String epoch,
+			@RequestParam List<String> destination,
+			@RequestParam(defaultValue = "200") int limit) {
+		return ResponseEntity.ok(replayBuffer.replay(destination, since, epoch, Math.max(1, Math.min(limit, 500))));
+	}
+
 	@GetMapping("/test-cors")
 	public ResponseEntity<Map<String, Object>> testCors() {
 		Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,32 @@
+package com.auto.tech.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact /topic/dealer-update payload: the fields a dealer dashboard changes on acceptance
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DealerUpdateEventDto {
+
+    private Long id;
+    private String email;
+    private String status;
+    private String offerAmount;
+    private String technicianEmail;
+    private String technicianName;
+    private Date acceptedAt;
+    private Date expectedCompletionBy;
+    private Date updatedAt;
+
+    public static DealerUpdateEventDto from(PostingDTO post) {
+        return new DealerUpdateEventDto(post.getId(), post.getEmail(), post.getStatus(), post.getOfferAmount(),
+                post.getTechnicianEmail(), post.getTechnicianName(), post.getAcceptedAt(),
+                post.getExpectedCompletionBy(), post.getUpdatedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.auto.tech.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Data;
+
+@Data
+public class EventReplayFrameDTO {
+    private String destination;
+    private long seq;
+    private List<JsonNode> events;
+}
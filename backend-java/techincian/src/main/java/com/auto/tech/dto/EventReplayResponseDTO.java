@@ -0,0 +1,14 @@
+package com.auto.tech.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class EventReplayResponseDTO {
+    private String epoch;
+    private long latestSeq;
+    private List<EventReplayFrameDTO> frames;
+    private boolean hasMore;
+    private boolean resetRequired;
+}
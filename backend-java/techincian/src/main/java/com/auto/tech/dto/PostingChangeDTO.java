@@ -0,0 +1,14 @@
+package com.auto.tech.dto;
+
+import java.util.Date;
+
+import lombok.Data;
+
+@Data
+public class PostingChangeDTO {
+    private Long seq;
+    private Long postId;
+    private String changeType;
+    private Date changedAt;
+    private PostingDTO post;
+}
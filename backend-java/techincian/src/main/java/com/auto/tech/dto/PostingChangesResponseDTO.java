@@ -0,0 +1,13 @@
+package com.auto.tech.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PostingChangesResponseDTO {
+    private List<PostingChangeDTO> changes;
+    private long latestSeq;
+    private boolean hasMore;
+    private boolean resetRequired;
+}
@@ -12,6 +12,8 @@ public class PostingDTO {
     private String content;
     private String location;
     private String offerAmount;
+    // Offer in integer cents as stored by postings; offerAmount is display-only
+    private Long offerCents;
     private String status;
 
     private String technicianEmail;
@@ -25,4 +27,7 @@ public class PostingDTO {
     // New fields for VIN and auction lot
     private String vin;
     private String auctionLot;
+
+    // Dealer zipcode, used for radius matching
+    private String zipcode;
 }
\ No newline at end of file
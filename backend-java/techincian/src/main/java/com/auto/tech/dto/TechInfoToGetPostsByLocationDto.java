@@ -7,4 +7,10 @@ public class TechInfoToGetPostsByLocationDto {
 	
 	private String email;
 
+	// Optional page size for the ranked feed; null returns every eligible post
+	private Integer limit;
+
+	// Optional radius around the technician's zipcode; null uses technician.feed.radius-miles
+	private Double radiusMiles;
+
 }
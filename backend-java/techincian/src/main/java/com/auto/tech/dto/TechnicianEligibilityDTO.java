@@ -0,0 +1,9 @@
+package com.auto.tech.dto;
+
+import lombok.Data;
+
+@Data
+public class TechnicianEligibilityDTO {
+    private boolean eligible;
+    private double ratingMultiplier;
+}
@@ -0,0 +1,47 @@
+package com.auto.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "technician_notifications")
+public class TechnicianNotification {
+
+    public static final String POST_ACCEPTED = "POST_ACCEPTED";
+    public static final String POST_DECLINED = "POST_DECLINED";
+    public static final String COUNTER_OFFER = "COUNTER_OFFER";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "technician_email", nullable = false)
+    private String technicianEmail;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
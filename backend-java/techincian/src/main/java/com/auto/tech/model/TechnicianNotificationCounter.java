@@ -0,0 +1,19 @@
+package com.auto.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "technician_notification_counters")
+public class TechnicianNotificationCounter {
+
+    @Id
+    @Column(name = "technician_email")
+    private String technicianEmail;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
@@ -1,15 +1,25 @@
 package com.auto.tech.model;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import com.auto.websocket.StompEventBroadcaster;
+import com.auto.tech.service.TechnicianFeedIndex;
+
 @Component
 public class WebSocketPostNotifier {
 
+    // Frames are JSON arrays of post IDs, like the postings service's /topic/post-accepted
+    public static final String POST_ACCEPTED_TOPIC = "/topic/post-accepted";
+
+    @Autowired
+    private StompEventBroadcaster broadcaster;
+
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private TechnicianFeedIndex feedIndex;
 
     public void notifyPostAccepted(Long postId) {
-        messagingTemplate.convertAndSend("/topic/post-accepted", postId);
+        feedIndex.removePost(postId); // keep the local feed index in step with the broadcast
+        // Through the broadcaster so the frame is ordered, sequenced and kept for replay like every other event
+        broadcaster.publish(POST_ACCEPTED_TOPIC, postId, postId);
     }
-}
\ No newline at end of file
+}
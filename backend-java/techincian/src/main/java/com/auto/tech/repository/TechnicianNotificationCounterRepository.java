@@ -0,0 +1,26 @@
+package com.auto.tech.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.auto.tech.model.TechnicianNotificationCounter;
+
+/**
+ * Unread notification count per technician, updated in the same transaction as the notification
+ * rows so reading it never needs a COUNT over the inbox.
+ */
+public interface TechnicianNotificationCounterRepository extends JpaRepository<TechnicianNotificationCounter, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO technician_notification_counters (technician_email, unread_count) "
+            + "VALUES (:email, GREATEST(:delta, 0)) ON CONFLICT (technician_email) "
+            + "DO UPDATE SET unread_count = GREATEST(technician_notification_counters.unread_count + :delta, 0)",
+            nativeQuery = true)
+    void addUnread(@Param("email") String email, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE TechnicianNotificationCounter c SET c.unreadCount = 0 WHERE c.technicianEmail = :email")
+    void resetUnread(@Param("email") String email);
+}
@@ -0,0 +1,35 @@
+package com.auto.tech.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.auto.tech.model.TechnicianNotification;
+
+public interface TechnicianNotificationRepository extends JpaRepository<TechnicianNotification, Long> {
+
+    // Newest first; served from idx_notifications_technician_created
+    @Query(value = "SELECT * FROM technician_notifications n WHERE n.technician_email = :email "
+            + "ORDER BY n.created_at DESC, n.id DESC LIMIT :limit", nativeQuery = true)
+    List<TechnicianNotification> findLatest(@Param("email") String email, @Param("limit") int limit);
+
+    // Next page after the notification with ID :beforeId, in the same order as findLatest
+    @Query(value = "SELECT * FROM technician_notifications n WHERE n.technician_email = :email "
+            + "AND (n.created_at, n.id) < (SELECT c.created_at, c.id FROM technician_notifications c WHERE c.id = :beforeId) "
+            + "ORDER BY n.created_at DESC, n.id DESC LIMIT :limit", nativeQuery = true)
+    List<TechnicianNotification> findBefore(@Param("email") String email, @Param("beforeId") Long beforeId,
+                                            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE TechnicianNotification n SET n.read = true "
+            + "WHERE n.technicianEmail = :email AND n.id IN :ids AND n.read = false")
+    int markRead(@Param("email") String email, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE TechnicianNotification n SET n.read = true WHERE n.technicianEmail = :email AND n.read = false")
+    int markAllRead(@Param("email") String email);
+}
@@ -0,0 +1,168 @@
+package com.auto.tech.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.auto.tech.repository.AcceptedPostRepository;
+import com.auto.tech.util.AfterCommit;
+import com.auto.tech.util.LongHashSet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cached set of every accepted post ID (tech_accepted_post), loaded once and
+ * updated incrementally on accept instead of being reloaded on each feed request.
+ * The bulk of the IDs sit in an immutable LongHashSet loaded from the database; posts accepted
+ * since then go into a second, small LongHashSet behind a read-write lock, so an accept costs one
+ * insert rather than a copy of everything and neither set boxes its IDs.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AcceptedPostIdCache {
+
+    private final AcceptedPostRepository acceptedPostRepo;
+
+    private volatile Ids ids;
+    private final AtomicLong version = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ [AcceptedPostIdCache] Failed to preload accepted post IDs, will load on first use: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        Ids previous = ids;
+        Ids loaded = new Ids(LongHashSet.of(acceptedPostRepo.findAllAcceptedPostIds()));
+        ids = loaded;
+        // Accepts that committed after the query above may only have reached the previous generation
+        if (previous != null) {
+            previous.forEachAdded(loaded::add);
+        }
+        version.incrementAndGet();
+        log.info("✅ [AcceptedPostIdCache] Loaded {} accepted post IDs", loaded.loaded.size());
+    }
+
+    /**
+     * Whether the post has been accepted by any technician
+     */
+    public boolean contains(Long postId) {
+        if (postId == null) {
+            return false;
+        }
+        return current().contains(postId);
+    }
+
+    public int size() {
+        return current().size();
+    }
+
+    /**
+     * Record a newly accepted post once the surrounding transaction commits, so feeds never hide
+     * a post whose accept rolled back
+     */
+    public void markAccepted(long postId) {
+        AfterCommit.run(() -> add(postId));
+    }
+
+    private void add(long postId) {
+        Ids current = ids;
+        if (current == null || !current.add(postId)) {
+            return;
+        }
+        // A reload swapped generations meanwhile: make sure the new one has it too
+        Ids latest = ids;
+        if (latest != current) {
+            latest.add(postId);
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Incremented whenever the accepted set changes
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    private Ids current() {
+        Ids current = ids;
+        if (current == null) {
+            synchronized (this) {
+                if (ids == null) {
+                    reload();
+                }
+                current = ids;
+            }
+        }
+        return current;
+    }
+
+    private static final class Ids {
+        // Immutable once published
+        private final LongHashSet loaded;
+        // Accepted since the load; guarded by lock
+        private final LongHashSet added = new LongHashSet();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Ids(LongHashSet loaded) {
+            this.loaded = loaded;
+        }
+
+        boolean contains(long postId) {
+            if (loaded.contains(postId)) {
+                return true;
+            }
+            lock.readLock().lock();
+            try {
+                return added.contains(postId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * False when the post was already known
+         */
+        boolean add(long postId) {
+            if (loaded.contains(postId)) {
+                return false;
+            }
+            lock.writeLock().lock();
+            try {
+                return added.add(postId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return loaded.size() + added.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void forEachAdded(LongConsumer action) {
+            lock.readLock().lock();
+            try {
+                added.forEach(action);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
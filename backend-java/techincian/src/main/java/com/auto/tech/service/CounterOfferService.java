@@ -30,6 +30,7 @@ public class CounterOfferService {
     private final CounterOfferRepository counterOfferRepository;
     private final TechnicianRepository technicianRepository;
     private final PostingClient postingClient;
+    private final TechnicianNotificationService notificationService;
 
     /**
      * Submit a counter offer for a post with enhanced validation
@@ -91,6 +92,7 @@ public class CounterOfferService {
                     .build();
 
             TechCounterOffer savedCounterOffer = counterOfferRepository.save(counterOffer);
+            notificationService.counterOfferUpdated(savedCounterOffer);
 
             logger.info("Counter offer submitted successfully with ID: {}", savedCounterOffer.getId());
             
@@ -455,6 +457,7 @@ public class CounterOfferService {
 
             counterOffer.withdrawByTechnician();
             counterOfferRepository.save(counterOffer);
+            notificationService.counterOfferUpdated(counterOffer);
 
             response.put("success", true);
             response.put("message", "Counter offer withdrawn successfully");
@@ -482,6 +485,7 @@ public class CounterOfferService {
         for (TechCounterOffer offer : expiredOffers) {
             offer.markAsExpired();
             counterOfferRepository.save(offer);
+            notificationService.counterOfferUpdated(offer);
         }
     }
 
@@ -503,6 +507,7 @@ public class CounterOfferService {
                         System.out.println("Marking expired counter offer: " + offer.getId());
                         offer.markAsExpired();
                         needsUpdate = true;
+                        notificationService.counterOfferUpdated(offer);
                     }
                 }
                 
@@ -848,6 +853,7 @@ public class CounterOfferService {
                 logger.info("Successfully updated counter offer {} to REJECTED status - 3-minute cooldown activated (attempt {}/3)", 
                            counterOffer.getId(), attemptCount);
             }
+            notificationService.counterOfferUpdated(counterOffer);
             
             return true;
             
@@ -886,6 +892,7 @@ public class CounterOfferService {
             // Update status to ACCEPTED with dealer response data
             counterOffer.acceptByDealer((String) acceptanceData.get("dealerResponseNotes"));
             counterOfferRepository.save(counterOffer);
+            notificationService.counterOfferUpdated(counterOffer);
             
             logger.info("Successfully updated counter offer {} to ACCEPTED status", counterOffer.getId());
             return true;
@@ -0,0 +1,140 @@
+package com.auto.tech.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+import org.springframework.stereotype.Service;
+
+import com.auto.tech.dto.PostingDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Ranks feed candidates for one technician. Each post is scored once from its numeric offer,
+ * and only the requested page is kept using a bounded min-heap instead of sorting the full list.
+ */
+@Service
+public class FeedRankingEngine {
+
+    /** Jobs at or above this offer are premium and need premium eligibility */
+    public static final double PREMIUM_JOB_THRESHOLD = 500.0;
+
+    // Best first: higher score, then newest (higher ID)
+    private static final Comparator<ScoredPost> BEST_FIRST = Comparator
+            .comparingDouble((ScoredPost s) -> s.score).reversed()
+            .thenComparing(Comparator.comparingLong((ScoredPost s) -> s.id).reversed());
+
+    private final Timer rankingTimer;
+    private final Counter scoredPostsCounter;
+
+    public FeedRankingEngine(MeterRegistry meterRegistry) {
+        this.rankingTimer = Timer.builder("technician.feed.ranking")
+                .description("Time spent filtering and scoring technician feed candidates")
+                .register(meterRegistry);
+        this.scoredPostsCounter = Counter.builder("technician.feed.ranking.scored.posts")
+                .description("Feed candidates scored by the ranking engine")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param candidates posts for the technician's location
+     * @param excluded   post IDs to drop (declined or already accepted)
+     * @param profile    technician rating profile
+     * @param limit      page size to keep; null or non-positive keeps every eligible post
+     */
+    public List<PostingDTO> rank(List<PostingDTO> candidates, LongPredicate excluded,
+                                 TechnicianRatingProfileCache.RatingProfile profile, Integer limit) {
+        return rankingTimer.record(() -> doRank(candidates, excluded, profile, limit));
+    }
+
+    private List<PostingDTO> doRank(List<PostingDTO> candidates, LongPredicate excluded,
+                                    TechnicianRatingProfileCache.RatingProfile profile, Integer limit) {
+        boolean bounded = limit != null && limit > 0;
+        // Min-heap on "best first" order: the root is the worst post kept so far
+        PriorityQueue<ScoredPost> heap = bounded ? new PriorityQueue<>(limit + 1, BEST_FIRST.reversed()) : null;
+        List<ScoredPost> all = bounded ? null : new ArrayList<>(candidates.size());
+
+        // Only high-rated technicians get value-first ordering; everyone else sees newest first
+        boolean valueFirst = profile.getRatingMultiplier() > 1.0;
+        int scored = 0;
+
+        for (PostingDTO post : candidates) {
+            if (post.getId() == null || excluded.test(post.getId())) {
+                continue;
+            }
+            double offer = offerDollars(post);
+            scored++;
+            if (!isEligible(profile, offer)) {
+                continue;
+            }
+            ScoredPost candidate = new ScoredPost(post, post.getId(), valueFirst ? offer * profile.getRatingMultiplier() : 0.0);
+            if (!bounded) {
+                all.add(candidate);
+            } else if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        scoredPostsCounter.increment(scored);
+
+        List<ScoredPost> ranked = bounded ? new ArrayList<>(heap) : all;
+        Collections.sort(ranked, BEST_FIRST);
+        List<PostingDTO> result = new ArrayList<>(ranked.size());
+        for (ScoredPost scoredPost : ranked) {
+            result.add(scoredPost.post);
+        }
+        return result;
+    }
+
+    /**
+     * Premium jobs need premium eligibility; regular jobs need regular eligibility
+     */
+    public static boolean isEligible(TechnicianRatingProfileCache.RatingProfile profile, double offer) {
+        return offer >= PREMIUM_JOB_THRESHOLD ? profile.isPremiumEligible() : profile.isRegularEligible();
+    }
+
+    /**
+     * Offer in dollars from the numeric offerCents; falls back to parsing the display string
+     * for posts serialized before offerCents existed
+     */
+    public static double offerDollars(PostingDTO post) {
+        Long offerCents = post.getOfferCents();
+        return offerCents != null ? offerCents / 100.0 : parseOfferAmount(post.getOfferAmount());
+    }
+
+    /**
+     * Parse offer amount from string
+     */
+    public static double parseOfferAmount(String offerAmount) {
+        try {
+            if (offerAmount == null || offerAmount.trim().isEmpty()) {
+                return 0.0;
+            }
+            // Remove currency symbols and parse
+            String cleanAmount = offerAmount.replaceAll("[^0-9.]", "");
+            return Double.parseDouble(cleanAmount);
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+
+    private static final class ScoredPost {
+        private final PostingDTO post;
+        private final long id;
+        private final double score;
+
+        private ScoredPost(PostingDTO post, long id, double score) {
+            this.post = post;
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
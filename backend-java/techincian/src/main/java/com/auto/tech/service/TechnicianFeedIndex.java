@@ -0,0 +1,333 @@
+package com.auto.tech.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.auto.tech.client.PostingClient;
+import com.auto.tech.dto.PostingChangeDTO;
+import com.auto.tech.dto.PostingChangesResponseDTO;
+import com.auto.tech.dto.PostingDTO;
+import com.auto.tech.dto.PostingFeedPageDto;
+import com.auto.tech.util.GeoGridIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local index of active postings keyed by normalized location, plus a lat/lng
+ * grid (from the posting's zipcode centroid) for radius queries.
+ * Seeded once from the postings service at startup and kept current from the
+ * /topic/new-post/{location} and /topic/post-accepted events plus the posting change log
+ * (GET /post/changes), so feed requests can be served without a cross-service call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicianFeedIndex {
+
+    private static final int FEED_PAGE_SIZE = 200;
+    private static final int CHANGES_PAGE_SIZE = 500;
+    // Active posts only need the feed card columns
+    private static final String FEED_VIEW = "feed";
+
+    // ~35 mile cells: a typical radius query touches a handful of cells
+    private static final double GEO_CELL_DEGREES = 0.5;
+
+    private final PostingClient postingClient;
+    private final ZipcodeCentroidDirectory zipcodeDirectory;
+
+    @Value("${technician.feed-index.enabled:true}")
+    private boolean enabled;
+
+    // Current index contents; a reload builds a new snapshot and swaps it in, so readers never see it half-filled
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    // Incremented on every change to the indexed posts; part of the feed ETag
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    // Last applied posting change-log sequence; -1 until the first seed
+    private volatile long lastSeq = -1;
+
+    /**
+     * Normalize a location string so "Dallas, Texas " and "dallas, texas" share a bucket
+     */
+    public static String normalizeLocation(String location) {
+        return location == null ? "" : location.trim().toLowerCase();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Retry seeding every 30 seconds until the postings service is reachable
+     */
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void retrySeed() {
+        if (enabled && !ready) {
+            reload();
+        }
+    }
+
+    /**
+     * Pull posting change-log deltas to pick up edits and deletions that are not broadcast as events
+     */
+    @Scheduled(fixedDelayString = "${technician.feed-index.sync-interval-ms:15000}",
+               initialDelayString = "${technician.feed-index.sync-interval-ms:15000}")
+    public void scheduledSync() {
+        if (enabled && ready) {
+            syncChanges();
+        }
+    }
+
+    /**
+     * Periodic full resync as a safety net in case the change log and events both missed something
+     */
+    @Scheduled(fixedDelayString = "${technician.feed-index.resync-interval-ms:600000}",
+               initialDelayString = "${technician.feed-index.resync-interval-ms:600000}")
+    public void scheduledResync() {
+        if (enabled && ready) {
+            reload();
+        }
+    }
+
+    /**
+     * Replace the index contents with the current active postings. The new contents are built off to
+     * the side and swapped in at once, so feed requests keep reading the previous snapshot meanwhile.
+     */
+    public synchronized void reload() {
+        try {
+            // Capture the sequence before the snapshot so changes made while paging are replayed
+            // (since=MAX returns no changes, only the latest sequence)
+            long seqBeforeSnapshot = postingClient.getChangesSince(Long.MAX_VALUE, 1).getLatestSeq();
+            List<PostingDTO> postings = fetchFromPostings(null);
+            Snapshot fresh = new Snapshot();
+            for (PostingDTO post : postings) {
+                if (isActive(post)) {
+                    put(fresh, post);
+                }
+            }
+            snapshot = fresh;
+            lastSeq = seqBeforeSnapshot;
+            version.incrementAndGet();
+            boolean wasReady = ready;
+            ready = true;
+            log.info("✅ [TechnicianFeedIndex] Seeded feed index with {} active posts across {} locations",
+                    fresh.locationByPostId.size(), fresh.postsByLocation.size());
+            if (wasReady) {
+                // Events applied to the old snapshot while paging are replayed from the change log
+                syncChanges();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [TechnicianFeedIndex] Failed to seed feed index, falling back to postings service: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply every posting change recorded after the last applied sequence.
+     * Falls back to a full reload when the change log no longer covers our position.
+     */
+    public synchronized void syncChanges() {
+        try {
+            PostingChangesResponseDTO response;
+            do {
+                response = postingClient.getChangesSince(lastSeq, CHANGES_PAGE_SIZE);
+                if (response == null) {
+                    return;
+                }
+                if (response.isResetRequired()) {
+                    log.info("🔄 [TechnicianFeedIndex] Change log pruned past seq {}, reloading feed index", lastSeq);
+                    reload();
+                    return;
+                }
+                if (response.getChanges() == null || response.getChanges().isEmpty()) {
+                    return;
+                }
+                for (PostingChangeDTO change : response.getChanges()) {
+                    applyChange(change);
+                    lastSeq = Math.max(lastSeq, change.getSeq());
+                }
+            } while (response.isHasMore());
+        } catch (Exception e) {
+            log.warn("⚠️ [TechnicianFeedIndex] Failed to sync posting changes since seq {}: {}", lastSeq, e.getMessage());
+        }
+    }
+
+    private void applyChange(PostingChangeDTO change) {
+        String type = change.getChangeType();
+        if ("ACCEPTED".equals(type) || "DELETED".equals(type) || change.getPost() == null) {
+            removePost(change.getPostId());
+        } else {
+            addPost(change.getPost());
+        }
+    }
+
+    /**
+     * Page through the postings feed endpoint. A null location fetches every active post.
+     */
+    public List<PostingDTO> fetchFromPostings(String location) {
+        List<PostingDTO> postings = new ArrayList<>();
+        Long afterId = null;
+        PostingFeedPageDto page;
+        do {
+            page = postingClient.getFeedPage(location, afterId, FEED_PAGE_SIZE, FEED_VIEW);
+            if (page == null || page.getPosts() == null) {
+                break;
+            }
+            postings.addAll(page.getPosts());
+            afterId = page.getNextCursor();
+        } while (page.isHasMore() && afterId != null);
+        return postings;
+    }
+
+    /**
+     * Apply a /topic/new-post/{location} event or an updated post. Posts that are no longer active are dropped.
+     */
+    public void addPost(PostingDTO post) {
+        addPost(post, true);
+    }
+
+    private void addPost(PostingDTO post, boolean notifyListeners) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        if (!isActive(post)) {
+            removePost(post.getId());
+            return;
+        }
+        String previous = put(snapshot, post);
+        version.incrementAndGet();
+        if (notifyListeners && previous == null) {
+            for (Listener listener : listeners) {
+                listener.onPostAdded(post);
+            }
+        }
+    }
+
+    /**
+     * Index an active post in the given snapshot; returns the location it was previously indexed under
+     */
+    private String put(Snapshot target, PostingDTO post) {
+        String location = normalizeLocation(post.getLocation());
+        String previous = target.locationByPostId.put(post.getId(), location);
+        if (previous != null && !previous.equals(location)) {
+            removeFromBucket(target, previous, post.getId());
+        }
+        target.postsByLocation.computeIfAbsent(location, key -> new ConcurrentSkipListMap<>()).put(post.getId(), post);
+
+        double[] centroid = zipcodeDirectory.lookup(post.getZipcode());
+        if (centroid != null) {
+            target.postsByArea.put(post.getId(), centroid[0], centroid[1], post);
+        } else {
+            target.postsByArea.remove(post.getId());
+        }
+        return previous;
+    }
+
+    /**
+     * Apply a /topic/post-accepted event (or any other event that takes a post out of the feed)
+     */
+    public void removePost(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        Snapshot current = snapshot;
+        String location = current.locationByPostId.remove(postId);
+        if (location != null) {
+            removeFromBucket(current, location, postId);
+            version.incrementAndGet();
+            for (Listener listener : listeners) {
+                listener.onPostRemoved(postId);
+            }
+        }
+        current.postsByArea.remove(postId);
+    }
+
+    /**
+     * Register for posts entering or leaving the index after it is seeded (full reloads are not reported)
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Active posts for a location, oldest first. Only valid when {@link #isReady()} is true.
+     */
+    public List<PostingDTO> getPostsForLocation(String location) {
+        ConcurrentSkipListMap<Long, PostingDTO> bucket = snapshot.postsByLocation.get(normalizeLocation(location));
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    /**
+     * Active posts whose zipcode centroid lies within radiusMiles of the given zipcode, oldest first.
+     * Returns null when the zipcode has no known centroid. Only valid when {@link #isReady()} is true.
+     */
+    public List<PostingDTO> getPostsWithinMiles(String zipcode, double radiusMiles) {
+        double[] origin = zipcodeDirectory.lookup(zipcode);
+        if (origin == null) {
+            return null;
+        }
+        List<PostingDTO> posts = snapshot.postsByArea.withinMiles(origin[0], origin[1], radiusMiles);
+        posts.sort(Comparator.comparing(PostingDTO::getId));
+        return posts;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return snapshot.locationByPostId.size();
+    }
+
+    private static void removeFromBucket(Snapshot target, String location, Long postId) {
+        ConcurrentSkipListMap<Long, PostingDTO> bucket = target.postsByLocation.get(location);
+        if (bucket != null) {
+            bucket.remove(postId);
+        }
+    }
+
+    /**
+     * One generation of index contents. Swapped as a whole on reload; incremental updates go into the live one.
+     */
+    private static final class Snapshot {
+        // location -> (postId -> post), ordered by post ID like PostingRepository.findAllActive
+        private final Map<String, ConcurrentSkipListMap<Long, PostingDTO>> postsByLocation = new ConcurrentHashMap<>();
+        private final Map<Long, String> locationByPostId = new ConcurrentHashMap<>();
+        // Active posts with a known zipcode centroid, for radius queries
+        private final GeoGridIndex<PostingDTO> postsByArea = new GeoGridIndex<>(GEO_CELL_DEGREES);
+    }
+
+    public interface Listener {
+        void onPostAdded(PostingDTO post);
+
+        void onPostRemoved(Long postId);
+    }
+
+    private boolean isActive(PostingDTO post) {
+        String status = post.getStatus();
+        return status == null || (!"DELETED".equalsIgnoreCase(status) && !"ACCEPTED".equalsIgnoreCase(status));
+    }
+}
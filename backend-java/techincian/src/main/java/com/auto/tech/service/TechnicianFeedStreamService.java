@@ -0,0 +1,400 @@
+package com.auto.tech.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.auto.tech.dto.PostingDTO;
+import com.auto.tech.model.Technician;
+import com.auto.tech.repository.DeclinedPostsRepository;
+import com.auto.tech.repository.TechnicianRepository;
+import com.auto.tech.util.GeoGridIndex;
+import com.auto.tech.util.LongHashSet;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-Sent Events variant of the technician feed. Matching posts are written one
+ * event at a time as they pass the filter (unranked, newest first), then the connection
+ * stays open and receives posts entering or leaving the feed index.
+ *
+ * Events: "post" (PostingDTO), "ready" (initial count), "post-removed" (post ID).
+ *
+ * Each stream has its own bounded outbox drained by at most one worker at a time, so a slow
+ * client only ever holds one worker and max-pending-events events. A client whose outbox
+ * overflows, or whose send is stuck longer than send-timeout-ms, is disconnected; it reconnects
+ * and gets a fresh initial feed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicianFeedStreamService implements TechnicianFeedIndex.Listener {
+
+    private final TechnicianRepository technicianRepo;
+    private final DeclinedPostsRepository declinedPostsRepo;
+    private final AcceptedPostIdCache acceptedPostIdCache;
+    private final TechnicianRatingProfileCache ratingProfileCache;
+    private final TechnicianFeedIndex feedIndex;
+    private final TechnicianFeedVersions feedVersions;
+    private final ZipcodeCentroidDirectory zipcodeDirectory;
+    private final TechnicianService technicianService;
+
+    @Value("${technician.feed-stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${technician.feed-stream.threads:4}")
+    private int streamThreads;
+
+    // Streams waiting for a worker; beyond this new work is refused and that stream disconnected
+    @Value("${technician.feed-stream.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // Events queued for one stream before it counts as lagging and is disconnected
+    @Value("${technician.feed-stream.max-pending-events:256}")
+    private int maxPendingEvents;
+
+    @Value("${technician.feed-stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final List<FeedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private ThreadPoolExecutor streamExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        streamExecutor = new ThreadPoolExecutor(streamThreads, streamThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "technician-feed-stream-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        feedIndex.addListener(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.emitter.complete();
+        }
+    }
+
+    /**
+     * Open a feed stream for a technician. The initial feed is written from a worker thread
+     * so the response starts flushing immediately.
+     */
+    public SseEmitter openStream(String email, Double radiusMiles) {
+        Technician technician = technicianRepo.findByEmailIgnoreCase(email)
+                .orElseThrow(() -> new RuntimeException("Technician not found"));
+        double radius = technicianService.resolveRadiusMiles(radiusMiles);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        FeedSubscription subscription = new FeedSubscription(emitter, email,
+                TechnicianFeedIndex.normalizeLocation(technician.getLocation()),
+                radius > 0 ? zipcodeDirectory.lookup(technician.getZipcode()) : null, radius,
+                ratingProfileCache.getProfile(email));
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        // Register before loading candidates so posts created meanwhile are not missed; sentIds dedupes
+        subscriptions.add(subscription);
+        subscription.enqueue(() -> streamInitialFeed(subscription, technician, radius));
+
+        log.info("📡 [TechnicianFeedStreamService] Opened feed stream for {} ({} active streams)", email, subscriptions.size());
+        return emitter;
+    }
+
+    private void streamInitialFeed(FeedSubscription subscription, Technician technician, double radius) {
+        try {
+            List<PostingDTO> candidates = technicianService.loadCandidatePostings(technician, radius);
+            int sent = 0;
+            for (int i = candidates.size() - 1; i >= 0 && !subscription.closed; i--) {
+                PostingDTO post = candidates.get(i);
+                if (subscription.matchesArea(post) && subscription.sendIfStillWanted(post)) {
+                    sent++;
+                }
+            }
+            subscription.send("ready", Map.of("count", sent));
+        } catch (Exception e) {
+            log.warn("⚠️ [TechnicianFeedStreamService] Initial feed stream failed: {}", e.getMessage());
+            subscription.emitter.completeWithError(e);
+        }
+    }
+
+    @Override
+    public void onPostAdded(PostingDTO post) {
+        for (FeedSubscription subscription : subscriptions) {
+            if (subscription.matchesArea(post)) {
+                subscription.enqueue(() -> subscription.sendIfStillWanted(post));
+            }
+        }
+    }
+
+    @Override
+    public void onPostRemoved(Long postId) {
+        for (FeedSubscription subscription : subscriptions) {
+            if (subscription.wasSent(postId)) {
+                subscription.enqueue(() -> subscription.send("post-removed", postId));
+            }
+        }
+    }
+
+    /**
+     * Comment heartbeat every 25 seconds keeps proxies from idling the connection and
+     * surfaces dead clients so their subscriptions are released
+     */
+    @Scheduled(fixedDelay = 25000, initialDelay = 25000)
+    public void heartbeat() {
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.enqueue(() -> subscription.sendComment("heartbeat"));
+        }
+    }
+
+    /**
+     * Disconnect streams whose current send has been blocked longer than the send timeout
+     */
+    @Scheduled(fixedDelay = 1000, initialDelay = 1000)
+    public void checkSendTimeouts() {
+        long now = System.currentTimeMillis();
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.checkSendTimeout(now);
+        }
+    }
+
+    public int getActiveStreamCount() {
+        return subscriptions.size();
+    }
+
+    private final class FeedSubscription {
+        private final SseEmitter emitter;
+        private final String email;
+        private final String location;
+        private final double[] origin;
+        private final double radiusMiles;
+        private final TechnicianRatingProfileCache.RatingProfile ratingProfile;
+
+        // Guarded by itself; draining means a worker owns this stream's sends
+        private final Deque<Runnable> outbox = new ArrayDeque<>();
+        private boolean draining;
+        private volatile boolean closed;
+
+        // Only touched by the draining worker; reloaded when the technician declines another post
+        private LongHashSet declinedPostIds;
+        private long declinedVersion = -1;
+
+        // Guarded by itself, never held while sending so index listeners are not blocked by a slow client
+        private final LongHashSet sentIds = new LongHashSet();
+
+        // Guarded by sendGuard; the thread blocked in emitter.send and since when
+        private final Object sendGuard = new Object();
+        private Thread sendingThread;
+        private long sendStartedAt;
+
+        private FeedSubscription(SseEmitter emitter, String email, String location, double[] origin, double radiusMiles,
+                                 TechnicianRatingProfileCache.RatingProfile ratingProfile) {
+            this.emitter = emitter;
+            this.email = email;
+            this.location = location;
+            this.origin = origin;
+            this.radiusMiles = radiusMiles;
+            this.ratingProfile = ratingProfile;
+        }
+
+        /**
+         * Queue work for this stream and make sure a worker is draining it
+         */
+        void enqueue(Runnable task) {
+            boolean lagging;
+            boolean schedule = false;
+            synchronized (outbox) {
+                if (closed) {
+                    return;
+                }
+                lagging = outbox.size() >= maxPendingEvents;
+                if (!lagging) {
+                    outbox.add(task);
+                    schedule = !draining;
+                    draining = true;
+                }
+            }
+            if (lagging) {
+                disconnect("lagging");
+            } else if (schedule) {
+                try {
+                    streamExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    disconnect("overloaded");
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Runnable next;
+                synchronized (outbox) {
+                    next = closed ? null : outbox.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    next.run();
+                } catch (Exception e) {
+                    log.warn("⚠️ [TechnicianFeedStreamService] Feed stream event failed for {}: {}", email, e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * Location/radius and rating eligibility only; cheap enough for the index listener thread
+         */
+        boolean matchesArea(PostingDTO post) {
+            if (post.getId() == null) {
+                return false;
+            }
+            if (!FeedRankingEngine.isEligible(ratingProfile, FeedRankingEngine.offerDollars(post))) {
+                return false;
+            }
+            if (location.equals(TechnicianFeedIndex.normalizeLocation(post.getLocation()))) {
+                return true;
+            }
+            if (origin == null) {
+                return false;
+            }
+            double[] postCentroid = zipcodeDirectory.lookup(post.getZipcode());
+            return postCentroid != null
+                    && GeoGridIndex.distanceMiles(origin[0], origin[1], postCentroid[0], postCentroid[1]) <= radiusMiles;
+        }
+
+        /**
+         * Send the post unless it was accepted or declined since the stream opened. Runs on the draining worker.
+         */
+        boolean sendIfStillWanted(PostingDTO post) {
+            if (acceptedPostIdCache.contains(post.getId()) || currentDeclinedPostIds().contains(post.getId())) {
+                return false;
+            }
+            return sendPost(post);
+        }
+
+        private LongHashSet currentDeclinedPostIds() {
+            // Declines bump the technician's feed version, so the set is only reloaded after one
+            long version = feedVersions.getTechnicianVersion(email);
+            if (declinedPostIds == null || version != declinedVersion) {
+                declinedPostIds = LongHashSet.of(declinedPostsRepo.findAllPostIdsByEmail(email));
+                declinedVersion = version;
+            }
+            return declinedPostIds;
+        }
+
+        boolean wasSent(long postId) {
+            synchronized (sentIds) {
+                return sentIds.contains(postId);
+            }
+        }
+
+        private boolean sendPost(PostingDTO post) {
+            synchronized (sentIds) {
+                if (!sentIds.add(post.getId())) {
+                    return false;
+                }
+            }
+            return send("post", post);
+        }
+
+        boolean send(String eventName, Object data) {
+            return emit(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        }
+
+        void sendComment(String comment) {
+            emit(SseEmitter.event().comment(comment));
+        }
+
+        private boolean emit(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return false;
+            }
+            synchronized (sendGuard) {
+                sendingThread = Thread.currentThread();
+                sendStartedAt = System.currentTimeMillis();
+            }
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                disconnect(null);
+                return false;
+            } finally {
+                synchronized (sendGuard) {
+                    sendingThread = null;
+                    // Clear an interrupt from checkSendTimeout so it does not hit this worker's next task
+                    Thread.interrupted();
+                }
+                if (closed) {
+                    completeQuietly();
+                }
+            }
+        }
+
+        void checkSendTimeout(long now) {
+            synchronized (sendGuard) {
+                if (sendingThread == null || now - sendStartedAt <= sendTimeoutMs) {
+                    return;
+                }
+                closed = true;
+                // Best effort: unblocks the write if the container honors interrupts; the connector's
+                // own write timeout bounds it otherwise. The worker completes the emitter when it returns.
+                sendingThread.interrupt();
+            }
+            disconnect("send-timeout");
+        }
+
+        /**
+         * Stop feeding this stream. reason is null when the client already went away.
+         */
+        private void disconnect(String reason) {
+            closed = true;
+            synchronized (outbox) {
+                outbox.clear();
+            }
+            if (subscriptions.remove(this) && reason != null) {
+                log.warn("⚠️ [TechnicianFeedStreamService] Disconnecting feed stream for {} ({})", email, reason);
+            }
+            boolean sending;
+            synchronized (sendGuard) {
+                sending = sendingThread != null;
+            }
+            // A blocked send holds the emitter's lock; its worker completes the emitter once it returns
+            if (!sending) {
+                completeQuietly();
+            }
+        }
+
+        private void completeQuietly() {
+            try {
+                emitter.completeWithError(new IOException("Feed stream client disconnected"));
+            } catch (Exception ignored) {
+                // Already completed
+            }
+        }
+    }
+}
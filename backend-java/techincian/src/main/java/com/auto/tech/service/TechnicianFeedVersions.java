@@ -0,0 +1,102 @@
+package com.auto.tech.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cheap per-technician feed version used as the feed ETag. Combines the feed index
+ * version, the accepted-post set version, a per-technician counter bumped on declines
+ * and profile changes, and the cached rating profile - all in memory, so a poll that
+ * matches If-None-Match is answered without a Feign call, DB query or filtering.
+ */
+@Service
+@RequiredArgsConstructor
+public class TechnicianFeedVersions {
+
+    // Distinguishes versions across restarts, since all counters start again at zero
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final TechnicianFeedIndex feedIndex;
+    private final AcceptedPostIdCache acceptedPostIdCache;
+    private final TechnicianRatingProfileCache ratingProfileCache;
+
+    private final Map<String, AtomicLong> technicianVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Record a change to the technician's declined posts or location/zipcode
+     */
+    public void bumpTechnician(String email) {
+        if (email != null) {
+            technicianVersions.computeIfAbsent(normalize(email), key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Number of declines and profile changes recorded for the technician since startup
+     */
+    public long getTechnicianVersion(String email) {
+        AtomicLong technicianVersion = email == null ? null : technicianVersions.get(normalize(email));
+        return technicianVersion == null ? 0 : technicianVersion.get();
+    }
+
+    /**
+     * Current feed ETag for the request, or null when the feed is not served from the index
+     * and so cannot be versioned cheaply
+     */
+    public String currentETag(String email, Integer limit, Double radiusMiles) {
+        if (email == null || !feedIndex.isReady()) {
+            return null;
+        }
+        String key = normalize(email);
+        AtomicLong technicianVersion = technicianVersions.get(key);
+        // An expired profile counts as absent, so once the TTL passes no old ETag matches and the
+        // next full response reloads the profile
+        TechnicianRatingProfileCache.RatingProfile profile = ratingProfileCache.peekProfile(email);
+        String profileVersion = profile == null ? "none"
+                : profile.getRatingMultiplier() + ":" + profile.isPremiumEligible() + ":" + profile.isRegularEligible();
+
+        return "W/\"" + BOOT_ID
+                + "-" + feedIndex.getVersion()
+                + "-" + acceptedPostIdCache.getVersion()
+                + "-" + (technicianVersion == null ? 0 : technicianVersion.get())
+                + "-" + Integer.toHexString((profileVersion + "|" + limit + "|" + radiusMiles).hashCode())
+                + "\"";
+    }
+
+    /**
+     * ETag for a response about to be built. Loads the rating profile first so the
+     * tag matches what the next poll computes from the cache.
+     */
+    public String prepareETag(String email, Integer limit, Double radiusMiles) {
+        if (email == null || !feedIndex.isReady()) {
+            return null;
+        }
+        ratingProfileCache.getProfile(email);
+        return currentETag(email, limit, radiusMiles);
+    }
+
+    /**
+     * True when an If-None-Match header lists the given ETag (or *)
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,149 @@
+package com.auto.tech.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auto.tech.model.TechCounterOffer;
+import com.auto.tech.model.TechnicianNotification;
+import com.auto.tech.model.TechnicianNotificationCounter;
+import com.auto.tech.repository.TechnicianNotificationCounterRepository;
+import com.auto.tech.repository.TechnicianNotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Technician notification inbox. Notifications are written when the event happens (post accepted or
+ * declined, counter offer submitted or answered) together with the unread counter, so reading a page
+ * costs one index range scan however long the technician's history is.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicianNotificationService {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TechnicianNotificationRepository notificationRepository;
+    private final TechnicianNotificationCounterRepository counterRepository;
+
+    @Transactional
+    public void postAccepted(String technicianEmail, Long postId) {
+        record(technicianEmail, TechnicianNotification.POST_ACCEPTED, "success",
+                "Post #" + postId + " has been accepted and assigned to you", postId, null);
+    }
+
+    @Transactional
+    public void postDeclined(String technicianEmail, Long postId) {
+        record(technicianEmail, TechnicianNotification.POST_DECLINED, "info",
+                "Post #" + postId + " has been declined", postId, null);
+    }
+
+    /**
+     * Record the counter offer's current status (submitted, accepted, rejected, expired, withdrawn)
+     */
+    @Transactional
+    public void counterOfferUpdated(TechCounterOffer offer) {
+        record(offer.getTechnicianEmail(), TechnicianNotification.COUNTER_OFFER, "info",
+                "Counter offer for Post #" + offer.getPostId() + " - Status: " + offer.getStatus(),
+                offer.getPostId(), offer.getId());
+    }
+
+    private void record(String technicianEmail, String category, String type, String message, Long postId, Long referenceId) {
+        if (technicianEmail == null) {
+            return;
+        }
+        String email = normalize(technicianEmail);
+        notificationRepository.save(TechnicianNotification.builder()
+                .technicianEmail(email)
+                .category(category)
+                .type(type)
+                .message(message)
+                .postId(postId)
+                .referenceId(referenceId)
+                .read(false)
+                .createdAt(LocalDateTime.now())
+                .build());
+        counterRepository.addUnread(email, 1);
+    }
+
+    /**
+     * One page of notifications, newest first. Pass the previous page's nextCursor as beforeId for the next page.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPage(String technicianEmail, Long beforeId, Integer limit) {
+        String email = normalize(technicianEmail);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page exists
+        List<TechnicianNotification> rows = beforeId == null
+                ? notificationRepository.findLatest(email, pageSize + 1)
+                : notificationRepository.findBefore(email, beforeId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<Map<String, Object>> notifications = new ArrayList<>(rows.size());
+        for (TechnicianNotification row : rows) {
+            Map<String, Object> notification = new HashMap<>();
+            notification.put("id", row.getId());
+            notification.put("category", row.getCategory());
+            notification.put("message", row.getMessage());
+            notification.put("type", row.getType());
+            notification.put("postId", row.getPostId());
+            notification.put("read", row.isRead());
+            notification.put("timestamp", row.getCreatedAt());
+            notifications.add(notification);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("notifications", notifications);
+        response.put("unreadCount", getUnreadCount(email));
+        response.put("hasMore", hasMore);
+        response.put("nextCursor", hasMore ? rows.get(rows.size() - 1).getId() : null);
+        return response;
+    }
+
+    public long getUnreadCount(String technicianEmail) {
+        return counterRepository.findById(normalize(technicianEmail))
+                .map(TechnicianNotificationCounter::getUnreadCount)
+                .orElse(0L);
+    }
+
+    /**
+     * Mark the given notifications as read; IDs that belong to someone else or are already read are ignored.
+     * Returns the remaining unread count.
+     */
+    @Transactional
+    public long markRead(String technicianEmail, Collection<Long> notificationIds) {
+        String email = normalize(technicianEmail);
+        if (notificationIds != null && !notificationIds.isEmpty()) {
+            int marked = notificationRepository.markRead(email, notificationIds);
+            if (marked > 0) {
+                counterRepository.addUnread(email, -marked);
+            }
+        }
+        return getUnreadCount(email);
+    }
+
+    @Transactional
+    public void markAllRead(String technicianEmail) {
+        String email = normalize(technicianEmail);
+        int marked = notificationRepository.markAllRead(email);
+        counterRepository.resetUnread(email);
+        log.info("✅ Marked {} notifications read for {}", marked, email);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,91 @@
+package com.auto.tech.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.auto.tech.client.PostingClient;
+import com.auto.tech.dto.TechnicianEligibilityDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-technician rating multiplier and job eligibility from the postings RatingService,
+ * cached with a TTL so feed requests do not call postings on every load.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicianRatingProfileCache {
+
+    /**
+     * Used when postings is unreachable - neutral ranking and no jobs hidden
+     */
+    public static final RatingProfile DEFAULT_PROFILE = new RatingProfile(1.0, true, true, 0L);
+
+    private final PostingClient postingClient;
+
+    @Value("${technician.rating-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private final Map<String, RatingProfile> profilesByEmail = new ConcurrentHashMap<>();
+
+    public RatingProfile getProfile(String technicianEmail) {
+        String key = technicianEmail == null ? "" : technicianEmail.trim().toLowerCase();
+        long now = System.currentTimeMillis();
+        RatingProfile cached = profilesByEmail.get(key);
+        if (cached != null && now - cached.getLoadedAt() < ttlMs) {
+            return cached;
+        }
+        try {
+            TechnicianEligibilityDTO premium = postingClient.checkTechnicianEligibility(technicianEmail, true);
+            TechnicianEligibilityDTO regular = postingClient.checkTechnicianEligibility(technicianEmail, false);
+            RatingProfile loaded = new RatingProfile(premium.getRatingMultiplier(),
+                    premium.isEligible(), regular.isEligible(), now);
+            profilesByEmail.put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            log.warn("⚠️ [TechnicianRatingProfileCache] Failed to load rating profile for {}: {}", technicianEmail, e.getMessage());
+            // Serve a stale profile over the neutral default; failures are not cached so the next request retries
+            return cached != null ? cached : DEFAULT_PROFILE;
+        }
+    }
+
+    /**
+     * Cached profile without loading; null when not cached or past its TTL, exactly when getProfile would reload
+     */
+    public RatingProfile peekProfile(String technicianEmail) {
+        RatingProfile cached = technicianEmail == null ? null : profilesByEmail.get(technicianEmail.trim().toLowerCase());
+        return cached != null && System.currentTimeMillis() - cached.getLoadedAt() < ttlMs ? cached : null;
+    }
+
+    public void evict(String technicianEmail) {
+        if (technicianEmail != null) {
+            profilesByEmail.remove(technicianEmail.trim().toLowerCase());
+        }
+    }
+
+    /**
+     * Drop expired profiles every 10 minutes so inactive technicians do not accumulate
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs;
+        profilesByEmail.values().removeIf(profile -> profile.getLoadedAt() < cutoff);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RatingProfile {
+        private final double ratingMultiplier;
+        private final boolean premiumEligible;
+        private final boolean regularEligible;
+        private final long loadedAt;
+    }
+}
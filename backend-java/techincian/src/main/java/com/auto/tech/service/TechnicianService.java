@@ -1,12 +1,15 @@
 package com.auto.tech.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,7 @@ import com.auto.tech.repository.DeclinedPostsRepository;
 import com.auto.tech.repository.TechnicianAuditLogRepository;
 import com.auto.tech.repository.TechnicianRepository;
 import com.auto.tech.service.CounterOfferService;
+import com.auto.tech.util.LongHashSet;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +52,15 @@ public class TechnicianService {
 	private final WebSocketPostNotifier postNotifier;
 	private final TechDashboardFeignClient techDashboardClient;
 	private final CounterOfferService counterOfferService;
+	private final TechnicianFeedIndex feedIndex;
+	private final AcceptedPostIdCache acceptedPostIdCache;
+	private final TechnicianRatingProfileCache ratingProfileCache;
+	private final FeedRankingEngine feedRankingEngine;
+	private final TechnicianFeedVersions feedVersions;
+	private final TechnicianNotificationService notificationService;
+
+	@Value("${technician.feed.radius-miles:0}")
+	private double defaultFeedRadiusMiles;
 	
 	
 	public String capitalizeEachWord(String str) {
@@ -152,10 +165,10 @@ public class TechnicianService {
 
 	    String technicianLocation = technician.getLocation().trim(); // e.g., "Dallas, Texas"
 
-	    List<Long> declinedPostIds = declinedPostsRepo.findAllPostIdsByEmail(dto.getEmail());
-	    List<Long> acceptedPostIds = acceptedPostRepo.findAllAcceptedPostIds();
+	    LongHashSet declinedPostIds = LongHashSet.of(declinedPostsRepo.findAllPostIdsByEmail(dto.getEmail()));
+	    LongHashSet acceptedByTechnician = LongHashSet.of(acceptedPostRepo.findAllAcceptedPostIdsByEmail(dto.getEmail()));
 
-	    List<PostingDTO> allPostings = postingClient.getAllPostings();
+	    List<PostingDTO> allPostings = loadCandidatePostings(technicianLocation);
 
 	    return allPostings.stream()
 	            .filter(post -> {
@@ -163,8 +176,8 @@ public class TechnicianService {
 	                return postLocation != null
 	                        && postLocation.trim().equalsIgnoreCase(technicianLocation)
 	                        && !declinedPostIds.contains(post.getId())
-	                        && (!acceptedPostIds.contains(post.getId())
-	                            || acceptedPostRepo.existsByPostIdAndEmailIgnoreCase(post.getId(), dto.getEmail()));
+	                        && (!acceptedPostIdCache.contains(post.getId())
+	                            || acceptedByTechnician.contains(post.getId()));
 	            })
 	            .collect(Collectors.toList());
 	}
@@ -184,6 +197,8 @@ public class TechnicianService {
 	    
 	    // Save to declined posts table
 	    TechDeclinedPosts saved = declinedPostsRepo.save(declinedPosts);
+	    feedVersions.bumpTechnician(saved.getEmail());
+	    notificationService.postDeclined(saved.getEmail(), saved.getPostId());
 	    System.out.println("✅ Saved declined post to database: postId=" + saved.getPostId() + 
 	                     ", technicianEmail=" + saved.getEmail() + ", id=" + saved.getId());
 	}
@@ -216,6 +231,7 @@ public class TechnicianService {
 	        acceptedPost.setAcceptedAt(LocalDateTime.now());
 	        try {
 	            acceptedPostRepo.save(acceptedPost);
+	            acceptedPostIdCache.markAccepted(acceptedPost.getPostId());
 	            System.out.println("✅ Saved to technician tech_accepted_post table: postId=" + acceptedPost.getPostId());
 	        } catch (org.springframework.dao.DataIntegrityViolationException e) {
 	            System.err.println("❌ Post already accepted by another technician (database constraint): " + e.getMessage());
@@ -224,6 +240,7 @@ public class TechnicianService {
 	            System.err.println("❌ Database error saving accepted post: " + e.getMessage());
 	            throw new RuntimeException("Failed to save post acceptance: " + e.getMessage(), e);
 	        }
+	        notificationService.postAccepted(acceptedPost.getEmail(), acceptedPost.getPostId());
 
 	        // ✅ Step 3: Update post status to ACCEPTED in posts service (Render URLs)
 	        try {
@@ -293,138 +310,72 @@ public class TechnicianService {
 
 	    String technicianLocation = technician.getLocation().trim();
 
-	    List<Long> declinedPostIds = declinedPostsRepo.findAllPostIdsByEmail(dto.getEmail());
-	    List<Long> acceptedPostIds = acceptedPostRepo.findAllAcceptedPostIds();
+	    LongHashSet declinedPostIds = LongHashSet.of(declinedPostsRepo.findAllPostIdsByEmail(dto.getEmail()));
 
 	    System.out.println("🔍 Filtering feed for technician: " + dto.getEmail());
 	    System.out.println("🔍 Technician location: " + technicianLocation);
-	    System.out.println("🔍 Declined post IDs: " + declinedPostIds);
 	    System.out.println("🔍 Declined post IDs count: " + declinedPostIds.size());
-	    System.out.println("🔍 Accepted post IDs (global): " + acceptedPostIds);
-
-	    List<PostingDTO> allPostings = postingClient.getAllPostings();
-	    System.out.println("🔍 Total posts from posting service: " + allPostings.size());
-
-	        // Get technician's rating eligibility
-    boolean isPremiumEligible = checkTechnicianPremiumEligibility(dto.getEmail());
-    double ratingMultiplier = getTechnicianRatingMultiplier(dto.getEmail());
-    
-    System.out.println("🔍 Technician rating eligibility - Premium: " + isPremiumEligible + ", Multiplier: " + ratingMultiplier);
-
-    List<PostingDTO> filteredPosts = allPostings.stream()
-            .filter(post -> {
-                String postLocation = post.getLocation();
-                boolean locationMatch = postLocation != null && postLocation.trim().equalsIgnoreCase(technicianLocation);
-                boolean notDeclined = !declinedPostIds.contains(post.getId());
-                boolean notAccepted = !acceptedPostIds.contains(post.getId());
-                
-                // Rating-based filtering
-                boolean ratingEligible = checkRatingEligibility(dto.getEmail(), post);
-                
-                if (!locationMatch) {
-                    System.out.println("❌ Post " + post.getId() + " location mismatch: " + postLocation + " vs " + technicianLocation);
-                }
-                if (!notDeclined) {
-                    System.out.println("❌ Post " + post.getId() + " declined by technician");
-                }
-                if (!notAccepted) {
-                    System.out.println("❌ Post " + post.getId() + " already accepted by someone");
-                }
-                if (!ratingEligible) {
-                    System.out.println("❌ Post " + post.getId() + " rating eligibility failed for technician");
-                }
-                
-                return locationMatch && notDeclined && notAccepted && ratingEligible;
-            })
-            .sorted((a, b) -> {
-                // Apply rating-based sorting - higher rated technicians see better jobs first
-                if (ratingMultiplier > 1.0) {
-                    // For high-rated technicians, prioritize higher-value jobs
-                    double valueA = parseOfferAmount(a.getOfferAmount()) * ratingMultiplier;
-                    double valueB = parseOfferAmount(b.getOfferAmount()) * ratingMultiplier;
-                    int valueComparison = Double.compare(valueB, valueA);
-                    if (valueComparison != 0) return valueComparison;
-                }
-                // Default sorting by ID (newest first)
-                return Long.compare(b.getId(), a.getId());
-            })
-            .collect(Collectors.toList());
+	    System.out.println("🔍 Accepted post IDs count (global): " + acceptedPostIdCache.size());
+
+	    List<PostingDTO> allPostings = loadCandidatePostings(technician, resolveRadiusMiles(dto));
+	    System.out.println("🔍 Candidate posts for location: " + allPostings.size());
+
+	    TechnicianRatingProfileCache.RatingProfile ratingProfile = ratingProfileCache.getProfile(dto.getEmail());
+	    System.out.println("🔍 Technician rating eligibility - Premium: " + ratingProfile.isPremiumEligible()
+	            + ", Multiplier: " + ratingProfile.getRatingMultiplier());
+
+	    // Candidates are already location-scoped; drop declined/accepted posts and rank in one pass
+	    List<PostingDTO> filteredPosts = feedRankingEngine.rank(allPostings,
+	            postId -> declinedPostIds.contains(postId) || acceptedPostIdCache.contains(postId),
+	            ratingProfile, dto.getLimit());
 	            
 	    System.out.println("✅ Filtered posts count: " + filteredPosts.size());
 	    return filteredPosts;
 	}
 	
 	/**
-	 * Check if technician is eligible for premium jobs based on ratings
+	 * Candidate posts for a technician: same-location posts plus, when a radius is requested and
+	 * both zipcodes resolve, posts within that many miles. Radius matching needs the seeded index.
 	 */
-	private boolean checkTechnicianPremiumEligibility(String technicianEmail) {
-	    try {
-	        // Call rating service to check eligibility
-	        // This would be implemented as a Feign client call to the postings service
-	        // For now, return true to maintain existing functionality
-	        return true;
-	    } catch (Exception e) {
-	        System.out.println("⚠️ Error checking premium eligibility for " + technicianEmail + ": " + e.getMessage());
-	        return true; // Default to eligible to avoid blocking technicians
+	List<PostingDTO> loadCandidatePostings(Technician technician, double radiusMiles) {
+	    List<PostingDTO> sameLocation = loadCandidatePostings(technician.getLocation().trim());
+	    if (radiusMiles <= 0 || !feedIndex.isReady()) {
+	        return sameLocation;
 	    }
-	}
-	
-	/**
-	 * Get technician's rating multiplier for job visibility
-	 */
-	private double getTechnicianRatingMultiplier(String technicianEmail) {
-	    try {
-	        // Call rating service to get multiplier
-	        // This would be implemented as a Feign client call to the postings service
-	        // For now, return 1.0 (neutral) to maintain existing functionality
-	        return 1.0;
-	    } catch (Exception e) {
-	        System.out.println("⚠️ Error getting rating multiplier for " + technicianEmail + ": " + e.getMessage());
-	        return 1.0; // Default to neutral
+	    List<PostingDTO> nearby = feedIndex.getPostsWithinMiles(technician.getZipcode(), radiusMiles);
+	    if (nearby == null) {
+	        return sameLocation;
 	    }
-	}
-	
-	/**
-	 * Check if technician is eligible for a specific job based on ratings
-	 */
-	private boolean checkRatingEligibility(String technicianEmail, PostingDTO post) {
-	    try {
-	        // Determine if this is a premium job (high value jobs)
-	        double offerAmount = parseOfferAmount(post.getOfferAmount());
-	        boolean isPremiumJob = offerAmount >= 500.0; // Jobs $500+ are considered premium
-	        
-	        // For premium jobs, check if technician is eligible
-	        if (isPremiumJob) {
-	            return checkTechnicianPremiumEligibility(technicianEmail);
-	        }
-	        
-	        // For regular jobs, all technicians are eligible unless they have very poor ratings
-	        // This would be enhanced to check actual ratings
-	        return true;
-	    } catch (Exception e) {
-	        System.out.println("⚠️ Error checking rating eligibility for " + technicianEmail + ": " + e.getMessage());
-	        return true; // Default to eligible
+	    Map<Long, PostingDTO> merged = new TreeMap<>();
+	    for (PostingDTO post : sameLocation) {
+	        merged.put(post.getId(), post);
 	    }
+	    for (PostingDTO post : nearby) {
+	        merged.putIfAbsent(post.getId(), post);
+	    }
+	    System.out.println("🔍 Radius match: " + nearby.size() + " posts within " + radiusMiles + " miles of " + technician.getZipcode());
+	    return new ArrayList<>(merged.values());
 	}
-	
+
+	private double resolveRadiusMiles(TechInfoToGetPostsByLocationDto dto) {
+	    return resolveRadiusMiles(dto.getRadiusMiles());
+	}
+
+	double resolveRadiusMiles(Double requestedRadiusMiles) {
+	    return requestedRadiusMiles != null ? requestedRadiusMiles : defaultFeedRadiusMiles;
+	}
+
 	/**
-	 * Parse offer amount from string
+	 * Candidate posts for a location - served from the local feed index once it is seeded,
+	 * otherwise fetched location-filtered from the postings feed endpoint
 	 */
-	private double parseOfferAmount(String offerAmount) {
-	    try {
-	        if (offerAmount == null || offerAmount.trim().isEmpty()) {
-	            return 0.0;
-	        }
-	        // Remove currency symbols and parse
-	        String cleanAmount = offerAmount.replaceAll("[^0-9.]", "");
-	        return Double.parseDouble(cleanAmount);
-	    } catch (Exception e) {
-	        return 0.0;
+	private List<PostingDTO> loadCandidatePostings(String technicianLocation) {
+	    if (feedIndex.isReady()) {
+	        return feedIndex.getPostsForLocation(technicianLocation);
 	    }
+	    return feedIndex.fetchFromPostings(technicianLocation);
 	}
 	
-	
-	
 	public Optional<Technician> getTechnicianByEmail(GetTechAccpetedPostsByEmailDto email) {
 		return repo.findByEmailIgnoreCase(email.getEmail());
 	}
@@ -467,7 +418,9 @@ public class TechnicianService {
 	        technician.setYearsOfExperience(dto.getYearsOfExperience());
 	    }
 
-	    return repo.save(technician);
+	    Technician saved = repo.save(technician);
+	    feedVersions.bumpTechnician(saved.getEmail());
+	    return saved;
 	}
 
 	private void logChange(String email, String field, String oldVal, String newVal, String updatedBy) {
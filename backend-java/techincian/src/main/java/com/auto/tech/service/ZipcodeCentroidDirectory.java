@@ -0,0 +1,91 @@
+package com.auto.tech.service;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline zipcode -> centroid lookup loaded once from a bundled CSV
+ * (zipcode,latitude,longitude). No network calls at request time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ZipcodeCentroidDirectory {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${technician.geo.zip-centroids-location:classpath:geo/zip-centroids.csv}")
+    private String centroidsLocation;
+
+    private volatile Map<String, double[]> centroidsByZip = Map.of();
+
+    @PostConstruct
+    public void load() {
+        Map<String, double[]> loaded = new HashMap<>();
+        Resource resource = resourceLoader.getResource(centroidsLocation);
+        if (!resource.exists()) {
+            log.warn("⚠️ [ZipcodeCentroidDirectory] No zipcode centroid data at {}, radius matching disabled", centroidsLocation);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("zipcode")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length < 3) {
+                    continue;
+                }
+                try {
+                    loaded.put(normalize(parts[0]), new double[] {
+                            Double.parseDouble(parts[1].trim()), Double.parseDouble(parts[2].trim()) });
+                } catch (NumberFormatException e) {
+                    // Skip malformed rows
+                }
+            }
+            centroidsByZip = loaded;
+            if (loaded.isEmpty()) {
+                log.warn("⚠️ [ZipcodeCentroidDirectory] {} has no centroids (run scripts/fetch-zip-centroids.sh), radius matching disabled",
+                        centroidsLocation);
+                return;
+            }
+            log.info("✅ [ZipcodeCentroidDirectory] Loaded {} zipcode centroids from {}", loaded.size(), centroidsLocation);
+        } catch (Exception e) {
+            log.error("❌ [ZipcodeCentroidDirectory] Failed to load zipcode centroids from {}: {}", centroidsLocation, e.getMessage());
+        }
+    }
+
+    /**
+     * {latitude, longitude} for a zipcode, or null when unknown. ZIP+4 values use the 5-digit prefix.
+     */
+    public double[] lookup(String zipcode) {
+        if (zipcode == null) {
+            return null;
+        }
+        return centroidsByZip.get(normalize(zipcode));
+    }
+
+    public boolean isAvailable() {
+        return !centroidsByZip.isEmpty();
+    }
+
+    private static String normalize(String zipcode) {
+        String trimmed = zipcode.trim();
+        int dash = trimmed.indexOf('-');
+        return dash > 0 ? trimmed.substring(0, dash) : trimmed;
+    }
+}
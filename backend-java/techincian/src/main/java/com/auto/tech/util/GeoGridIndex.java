@@ -0,0 +1,143 @@
+package com.auto.tech.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Uniform lat/lng grid of values keyed by a long ID. A radius query only visits
+ * the cells overlapping the query's bounding box and then checks the exact
+ * great-circle distance, so it never scans every entry. Thread-safe.
+ */
+public final class GeoGridIndex<T> {
+
+    public static final double EARTH_RADIUS_MILES = 3958.8;
+    private static final double MILES_PER_DEGREE_LAT = 69.0;
+
+    private final double cellDegrees;
+
+    // cell key -> (id -> entry), ordered by ID
+    private final Map<Long, ConcurrentSkipListMap<Long, Entry<T>>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellById = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be positive");
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public void put(long id, double latitude, double longitude, T value) {
+        long cell = cellKey(latitude, longitude);
+        Long previous = cellById.put(id, cell);
+        if (previous != null && previous != cell) {
+            removeFromCell(previous, id);
+        }
+        cells.computeIfAbsent(cell, key -> new ConcurrentSkipListMap<>()).put(id, new Entry<>(latitude, longitude, value));
+    }
+
+    public void remove(long id) {
+        Long cell = cellById.remove(id);
+        if (cell != null) {
+            removeFromCell(cell, id);
+        }
+    }
+
+    public void clear() {
+        cells.clear();
+        cellById.clear();
+    }
+
+    public int size() {
+        return cellById.size();
+    }
+
+    /**
+     * Values within radiusMiles of the point, in no particular order
+     */
+    public List<T> withinMiles(double latitude, double longitude, double radiusMiles) {
+        List<T> result = new ArrayList<>();
+        if (radiusMiles < 0) {
+            return result;
+        }
+        double latSpan = radiusMiles / MILES_PER_DEGREE_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        double lngSpan = Math.min(radiusMiles / (MILES_PER_DEGREE_LAT * cosLat), 180.0);
+
+        int minLatCell = cellIndex(Math.max(latitude - latSpan, -90.0));
+        int maxLatCell = cellIndex(Math.min(latitude + latSpan, 90.0));
+        int minLngCell = cellIndex(longitude - lngSpan);
+        // Never visit a wrapped longitude cell twice
+        int lngCellCount = Math.min(cellIndex(longitude + lngSpan) - minLngCell + 1, cellsAround());
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int i = 0; i < lngCellCount; i++) {
+                ConcurrentSkipListMap<Long, Entry<T>> cell = cells.get(key(latCell, wrapLngCell(minLngCell + i)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry<T> entry : cell.values()) {
+                    if (distanceMiles(latitude, longitude, entry.latitude, entry.longitude) <= radiusMiles) {
+                        result.add(entry.value);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Haversine great-circle distance in miles
+     */
+    public static double distanceMiles(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_MILES * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeFromCell(long cell, long id) {
+        ConcurrentSkipListMap<Long, Entry<T>> bucket = cells.get(cell);
+        if (bucket != null) {
+            bucket.remove(id);
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(cellIndex(latitude), wrapLngCell(cellIndex(longitude)));
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    // Keep longitude cells in [-180, 180) so queries across the antimeridian find the right cells
+    private int wrapLngCell(int lngCell) {
+        int minCell = cellIndex(-180.0);
+        return Math.floorMod(lngCell - minCell, cellsAround()) + minCell;
+    }
+
+    private int cellsAround() {
+        return (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static final class Entry<T> {
+        private final double latitude;
+        private final double longitude;
+        private final T value;
+
+        private Entry(double latitude, double longitude, T value) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+        }
+    }
+}
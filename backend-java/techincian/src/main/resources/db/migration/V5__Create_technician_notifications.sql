@@ -0,0 +1,45 @@
+-- Persistent technician notification inbox, written when the event happens instead of being
+-- rebuilt from accepted/declined/counter offer history on every read
+
+CREATE TABLE IF NOT EXISTS technician_notifications (
+    id BIGSERIAL PRIMARY KEY,
+    technician_email VARCHAR(255) NOT NULL,  -- stored lowercase
+    category VARCHAR(50) NOT NULL,           -- POST_ACCEPTED, POST_DECLINED, COUNTER_OFFER
+    type VARCHAR(20) NOT NULL,               -- success / info, as rendered by the dashboard
+    message TEXT NOT NULL,
+    post_id BIGINT,
+    reference_id BIGINT,                     -- counter offer ID for COUNTER_OFFER
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Newest-first cursor paging per technician
+CREATE INDEX IF NOT EXISTS idx_notifications_technician_created
+    ON technician_notifications(technician_email, created_at DESC, id DESC);
+
+-- Mark-all-read only touches unread rows
+CREATE INDEX IF NOT EXISTS idx_notifications_technician_unread
+    ON technician_notifications(technician_email) WHERE NOT is_read;
+
+-- Unread count per technician, maintained alongside every insert / mark-as-read
+CREATE TABLE IF NOT EXISTS technician_notification_counters (
+    technician_email VARCHAR(255) PRIMARY KEY,
+    unread_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- Backfill existing history as already read, so nobody starts with a flood of unread notifications
+INSERT INTO technician_notifications (technician_email, category, type, message, post_id, reference_id, is_read, created_at)
+SELECT LOWER(email), 'POST_ACCEPTED', 'success',
+       'Post #' || post_id || ' has been accepted and assigned to you', post_id, NULL, TRUE,
+       COALESCE(created_at, accepted_at)
+FROM tech_accepted_post
+UNION ALL
+SELECT LOWER(email), 'POST_DECLINED', 'info',
+       'Post #' || post_id || ' has been declined', post_id, NULL, TRUE, created_at
+FROM tech_declined_posts
+UNION ALL
+SELECT LOWER(technician_email), 'COUNTER_OFFER', 'info',
+       'Counter offer for Post #' || post_id || ' - Status: ' || status, post_id, id, TRUE,
+       COALESCE(updated_at, requested_at)
+FROM tech_counter_offer
+ORDER BY 8;
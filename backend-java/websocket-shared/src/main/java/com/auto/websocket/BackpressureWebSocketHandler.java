@@ -0,0 +1,68 @@
+package com.auto.websocket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP session handler that wraps every session in a {@link BoundedSendSessionDecorator} using the
+ * configured overflow policy, and exposes session count, queue depth and drops as metrics named
+ * after the service's websocket.prefix.
+ */
+@Slf4j
+public class BackpressureWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final BoundedSendSessionDecorator.OverflowPolicy overflowPolicy;
+    private final MeterRegistry meterRegistry;
+    private final String metricPrefix;
+
+    private final Map<String, BoundedSendSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    public BackpressureWebSocketHandler(MessageChannel clientInboundChannel, SubscribableChannel clientOutboundChannel,
+                                        BoundedSendSessionDecorator.OverflowPolicy overflowPolicy, MeterRegistry meterRegistry,
+                                        String metricPrefix) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.overflowPolicy = overflowPolicy;
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        meterRegistry.gaugeMapSize(metricPrefix + ".sessions", Tags.empty(), sessions);
+        meterRegistry.gauge(metricPrefix + ".send.queue.bytes", sessions,
+                s -> s.values().stream().mapToLong(BoundedSendSessionDecorator::getQueuedBytes).sum());
+        meterRegistry.gauge(metricPrefix + ".send.queue.messages", sessions,
+                s -> s.values().stream().mapToLong(BoundedSendSessionDecorator::getQueuedMessages).sum());
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        BoundedSendSessionDecorator decorated = new BoundedSendSessionDecorator(session, getSendTimeLimit(),
+                getSendBufferSizeLimit(), overflowPolicy, new BoundedSendSessionDecorator.Listener() {
+                    @Override
+                    public void onDropped(int messages) {
+                        meterRegistry.counter(metricPrefix + ".messages.dropped").increment(messages);
+                    }
+
+                    @Override
+                    public void onLimitExceeded(String limit) {
+                        meterRegistry.counter(metricPrefix + ".sessions.disconnected", "reason", limit).increment();
+                        log.warn("⚠️ Closing slow WebSocket session {} ({})", session.getId(), limit);
+                    }
+                });
+        sessions.put(session.getId(), decorated);
+        return decorated;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        sessions.remove(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
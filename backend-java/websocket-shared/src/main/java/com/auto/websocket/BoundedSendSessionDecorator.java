@@ -0,0 +1,193 @@
+package com.auto.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Serializes sends to one WebSocket session and bounds what may queue up behind a slow client.
+ * Whichever thread finds the session idle sends; others only enqueue and return, so one lagging
+ * client never blocks the broker threads. When the queued bytes exceed the buffer limit the oldest
+ * STOMP MESSAGE frames are dropped (DROP_OLDEST) or the session is closed (DISCONNECT). Protocol
+ * frames (CONNECTED, RECEIPT, ERROR, heartbeats) are never dropped since the client cannot recover
+ * from missing them; missed messages can be fetched again from the event replay endpoint. A single
+ * send stuck for longer than the send time limit always closes the session, since dropping cannot unblock it.
+ */
+public class BoundedSendSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.US_ASCII);
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, DISCONNECT
+    }
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final OverflowPolicy overflowPolicy;
+    private final Listener listener;
+
+    // guarded by itself
+    private final Deque<WebSocketMessage<?>> buffer = new ArrayDeque<>();
+    private long bufferBytes;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+
+    public BoundedSendSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                       OverflowPolicy overflowPolicy, Listener listener) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowPolicy = overflowPolicy;
+        this.listener = listener;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (limitExceeded || !isOpen()) {
+            return;
+        }
+        int dropped = 0;
+        synchronized (buffer) {
+            buffer.add(message);
+            bufferBytes += message.getPayloadLength();
+            if (overflowPolicy == OverflowPolicy.DROP_OLDEST && bufferBytes > bufferSizeLimit) {
+                // Keep at least the newest message so an oversized frame still gets through
+                Iterator<WebSocketMessage<?>> oldestFirst = buffer.iterator();
+                for (int remaining = buffer.size() - 1; remaining > 0 && bufferBytes > bufferSizeLimit; remaining--) {
+                    WebSocketMessage<?> queued = oldestFirst.next();
+                    if (isStompMessageFrame(queued)) {
+                        oldestFirst.remove();
+                        bufferBytes -= queued.getPayloadLength();
+                        dropped++;
+                    }
+                }
+            }
+        }
+        if (dropped > 0) {
+            listener.onDropped(dropped);
+        }
+        flush();
+        checkLimits();
+    }
+
+    private void flush() throws IOException {
+        while (!limitExceeded && flushLock.tryLock()) {
+            try {
+                WebSocketMessage<?> next;
+                while (!limitExceeded && (next = poll()) != null) {
+                    sendStartTime = System.currentTimeMillis();
+                    getDelegate().sendMessage(next);
+                    sendStartTime = 0;
+                }
+            } finally {
+                sendStartTime = 0;
+                flushLock.unlock();
+            }
+            // Another thread may have enqueued between our last poll and the unlock
+            if (getQueuedMessages() == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Whether the message is a STOMP MESSAGE frame, the only kind that is safe to drop
+     */
+    static boolean isStompMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith("MESSAGE\n") || text.getPayload().startsWith("MESSAGE\r\n");
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            if (payload.remaining() < MESSAGE_COMMAND.length) {
+                return false;
+            }
+            for (int i = 0; i < MESSAGE_COMMAND.length - 1; i++) {
+                if (payload.get(payload.position() + i) != MESSAGE_COMMAND[i]) {
+                    return false;
+                }
+            }
+            byte eol = payload.get(payload.position() + MESSAGE_COMMAND.length - 1);
+            return eol == '\n' || eol == '\r';
+        }
+        return false;
+    }
+
+    private WebSocketMessage<?> poll() {
+        synchronized (buffer) {
+            WebSocketMessage<?> next = buffer.poll();
+            if (next != null) {
+                bufferBytes -= next.getPayloadLength();
+            }
+            return next;
+        }
+    }
+
+    private void checkLimits() {
+        if (limitExceeded) {
+            return;
+        }
+        long started = sendStartTime;
+        if (started > 0 && System.currentTimeMillis() - started > sendTimeLimit) {
+            exceed("send-time-limit", String.format("Send for session '%s' blocked longer than %d ms", getId(), sendTimeLimit));
+        } else if (overflowPolicy == OverflowPolicy.DISCONNECT && getQueuedBytes() > bufferSizeLimit) {
+            exceed("buffer-limit", String.format("Send buffer of session '%s' exceeded %d bytes", getId(), bufferSizeLimit));
+        }
+    }
+
+    private void exceed(String limit, String reason) {
+        synchronized (buffer) {
+            if (limitExceeded) {
+                return;
+            }
+            limitExceeded = true;
+            // Release the queued frames now instead of when the container gets round to closing
+            buffer.clear();
+            bufferBytes = 0;
+        }
+        listener.onLimitExceeded(limit);
+        // SubProtocolWebSocketHandler closes the session when it sees this exception
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    public long getQueuedBytes() {
+        synchronized (buffer) {
+            return bufferBytes;
+        }
+    }
+
+    public int getQueuedMessages() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        synchronized (buffer) {
+            buffer.clear();
+            bufferBytes = 0;
+        }
+        super.close(status);
+    }
+
+    public interface Listener {
+        void onDropped(int messages);
+
+        void onLimitExceeded(String limit);
+    }
+}
@@ -0,0 +1,279 @@
+package com.auto.websocket;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.BufferingStompDecoder;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+import reactor.netty.tcp.TcpServer;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Minimal STOMP broker over TCP for the "embedded" broker mode: one instance hosts it and relays
+ * /topic to it like any external broker, the other instances run in "relay" mode pointed at that
+ * instance, and every instance's clients receive every instance's events. Destinations are matched
+ * as Ant patterns, the same as the simple broker, so subscriptions need no broker-specific wildcards.
+ * It only covers what the Spring broker relay uses (CONNECT, SUBSCRIBE, UNSUBSCRIBE, SEND,
+ * DISCONNECT, receipts, heart-beats) and keeps nothing: frames go to the subscribers connected at
+ * the time. A connection that falls max-queued-frames behind, or stays silent for three of its
+ * heart-beat periods, is closed; the relay reconnects it.
+ *
+ * For local and test runs of several instances on one host only: it listens on loopback by default,
+ * has no default credentials (relay.login/passcode must be set) and is not created under the
+ * production profile, where WebSocketConfig rejects this mode. Production uses relay mode with an
+ * external broker such as ActiveMQ Artemis.
+ */
+@Component
+@ConditionalOnExpression("'${${websocket.prefix}.broker:simple}' == 'embedded'")
+@Profile("!production")
+@Slf4j
+public class EmbeddedStompBroker {
+
+    private static final AntPathMatcher DESTINATION_MATCHER = new AntPathMatcher();
+    private static final StompEncoder ENCODER = new StompEncoder();
+    private static final byte[] HEARTBEAT = { '\n' };
+    // Missed heart-beat periods tolerated before a silent connection is closed
+    private static final int HEARTBEAT_TOLERANCE = 3;
+
+    @Value("${websocket.prefix}")
+    private String prefix;
+
+    @Value("${${websocket.prefix}.embedded.host:127.0.0.1}")
+    private String host;
+
+    @Value("${${websocket.prefix}.embedded.port:61613}")
+    private int port;
+
+    @Value("${${websocket.prefix}.relay.login:}")
+    private String login;
+
+    @Value("${${websocket.prefix}.relay.passcode:}")
+    private String passcode;
+
+    @Value("${${websocket.prefix}.embedded.max-queued-frames:10000}")
+    private int maxQueuedFrames;
+
+    @Value("${${websocket.prefix}.embedded.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @Value("${${websocket.prefix}.session.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private final Set<BrokerConnection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong messageIds = new AtomicLong();
+    private DisposableServer server;
+
+    public EmbeddedStompBroker() {
+    }
+
+    EmbeddedStompBroker(String prefix, String host, int port, String login, String passcode, int maxQueuedFrames,
+                        long heartbeatMs, int messageSizeLimit) {
+        this.prefix = prefix;
+        this.host = host;
+        this.port = port;
+        this.login = login;
+        this.passcode = passcode;
+        this.maxQueuedFrames = maxQueuedFrames;
+        this.heartbeatMs = heartbeatMs;
+        this.messageSizeLimit = messageSizeLimit;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (login == null || login.isBlank() || passcode == null || passcode.isBlank()) {
+            throw new IllegalStateException("Embedded STOMP broker needs " + prefix + ".relay.login and " + prefix + ".relay.passcode");
+        }
+        server = TcpServer.create()
+                .host(host)
+                .port(port)
+                .handle(this::serve)
+                .bindNow();
+        log.info("✅ Embedded STOMP broker listening on {}:{}", host, server.port());
+    }
+
+    /**
+     * Port actually bound, for a configured port of 0
+     */
+    public int getPort() {
+        return server.port();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private Mono<Void> serve(NettyInbound inbound, NettyOutbound outbound) {
+        BrokerConnection connection = new BrokerConnection();
+        inbound.withConnection(netty -> connection.netty = netty);
+        Mono<Void> in = inbound.receive().asByteArray()
+                .doOnNext(bytes -> connection.received(ByteBuffer.wrap(bytes)))
+                .doFinally(signal -> connection.close())
+                .then();
+        Mono<Void> out = outbound.sendByteArray(connection.outbox.asFlux()).then();
+        // Done when the peer goes away or we close the outbox (DISCONNECT, error, overflow)
+        return Mono.firstWithSignal(in, out);
+    }
+
+    private void publish(StompHeaderAccessor send, byte[] payload) {
+        String destination = send.getDestination();
+        if (destination == null) {
+            return;
+        }
+        for (BrokerConnection connection : connections) {
+            for (Map.Entry<String, String> subscription : connection.subscriptions.entrySet()) {
+                if (DESTINATION_MATCHER.match(subscription.getValue(), destination)) {
+                    StompHeaderAccessor message = StompHeaderAccessor.create(StompCommand.MESSAGE);
+                    // Application headers (seq, epoch, content-type) pass through unchanged
+                    send.toNativeHeaderMap().forEach((name, values) -> {
+                        if (!"receipt".equals(name) && !"content-length".equals(name)) {
+                            message.setNativeHeader(name, values.isEmpty() ? null : values.get(0));
+                        }
+                    });
+                    message.setDestination(destination);
+                    message.setSubscriptionId(subscription.getKey());
+                    message.setMessageId(String.valueOf(messageIds.incrementAndGet()));
+                    connection.send(message, payload);
+                }
+            }
+        }
+    }
+
+    private class BrokerConnection {
+
+        private final BufferingStompDecoder decoder = new BufferingStompDecoder(new StompDecoder(), messageSizeLimit);
+        private final Sinks.Many<byte[]> outbox = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<byte[]>get(maxQueuedFrames).get());
+        // subscription id -> destination pattern
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+        private volatile boolean connected;
+        private Connection netty;
+        private Disposable heartbeats;
+
+        void received(ByteBuffer bytes) {
+            List<Message<byte[]>> frames = decoder.decode(bytes);
+            for (Message<byte[]> frame : frames) {
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frame);
+                StompCommand command = accessor.getCommand();
+                if (command == null) {
+                    continue; // heartbeat
+                }
+                if (command == StompCommand.CONNECT || command == StompCommand.STOMP) {
+                    connect(accessor);
+                    continue;
+                }
+                if (!connected) {
+                    error("Not connected");
+                    return;
+                }
+                switch (command) {
+                    case SUBSCRIBE -> subscriptions.put(accessor.getSubscriptionId(), accessor.getDestination());
+                    case UNSUBSCRIBE -> subscriptions.remove(accessor.getSubscriptionId());
+                    case SEND -> publish(accessor, frame.getPayload());
+                    default -> {
+                    }
+                }
+                if (accessor.getReceipt() != null) {
+                    StompHeaderAccessor receipt = StompHeaderAccessor.create(StompCommand.RECEIPT);
+                    receipt.setReceiptId(accessor.getReceipt());
+                    send(receipt, new byte[0]);
+                }
+                if (command == StompCommand.DISCONNECT) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void connect(StompHeaderAccessor accessor) {
+            if (!login.equals(accessor.getLogin()) || !passcode.equals(accessor.getPasscode())) {
+                error("Bad credentials");
+                return;
+            }
+            StompHeaderAccessor connectedFrame = StompHeaderAccessor.create(StompCommand.CONNECTED);
+            connectedFrame.setVersion("1.2");
+            connectedFrame.setHeartbeat(heartbeatMs, heartbeatMs);
+            send(connectedFrame, new byte[0]);
+            startHeartbeats(accessor.getHeartbeat());
+            connected = true;
+            connections.add(this);
+        }
+
+        // Negotiated as in the STOMP spec: each side uses the larger of what one offers and the other asks for
+        private void startHeartbeats(long[] client) {
+            long sendEvery = heartbeatMs == 0 || client[1] == 0 ? 0 : Math.max(heartbeatMs, client[1]);
+            long expectEvery = heartbeatMs == 0 || client[0] == 0 ? 0 : Math.max(heartbeatMs, client[0]);
+            if (sendEvery > 0) {
+                heartbeats = Flux.interval(Duration.ofMillis(sendEvery)).subscribe(tick -> emit(HEARTBEAT));
+            }
+            if (expectEvery > 0 && netty != null) {
+                netty.onReadIdle(expectEvery * HEARTBEAT_TOLERANCE, () -> {
+                    log.warn("⚠️ Closing embedded STOMP broker connection silent for {} ms", expectEvery * HEARTBEAT_TOLERANCE);
+                    close();
+                });
+            }
+        }
+
+        private void error(String reason) {
+            StompHeaderAccessor errorFrame = StompHeaderAccessor.create(StompCommand.ERROR);
+            errorFrame.setMessage(reason);
+            send(errorFrame, new byte[0]);
+            close();
+        }
+
+        void send(StompHeaderAccessor headers, byte[] payload) {
+            emit(ENCODER.encode(MessageBuilder.createMessage(payload, headers.getMessageHeaders())));
+        }
+
+        private void emit(byte[] bytes) {
+            Sinks.EmitResult result;
+            // Frames reach one connection from the inbound threads of every other connection
+            synchronized (this) {
+                result = outbox.tryEmitNext(bytes);
+            }
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                log.warn("⚠️ Closing embedded STOMP broker connection that fell {} frames behind", maxQueuedFrames);
+                close();
+            }
+        }
+
+        void close() {
+            connections.remove(this);
+            if (heartbeats != null) {
+                heartbeats.dispose();
+            }
+            synchronized (this) {
+                outbox.tryEmitComplete();
+            }
+        }
+    }
+}
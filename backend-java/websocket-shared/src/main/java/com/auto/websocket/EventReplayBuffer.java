@@ -0,0 +1,137 @@
+package com.auto.websocket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Recent STOMP frames per destination, so a client that reconnects after a short drop can fetch
+ * exactly the frames it missed instead of reloading everything. Every frame gets a sequence number
+ * from one counter shared by all destinations; a client remembers the highest one it has seen and
+ * asks for the frames after it. The epoch changes on every restart, since the buffers do not survive one.
+ * Behind a shared broker (relay or embedded mode) each instance numbers only the frames it publishes
+ * and clients receive them interleaved, so the epoch also tells instances apart: a client keeps one
+ * position per epoch it has seen instead of treating a new epoch as a restart.
+ */
+@Component
+public class EventReplayBuffer {
+
+    public static final String SEQ_HEADER = "seq";
+    public static final String EPOCH_HEADER = "epoch";
+
+    private static final AntPathMatcher DESTINATION_MATCHER = new AntPathMatcher();
+
+    @Value("${${websocket.prefix}.replay.frames-per-topic:256}")
+    private int framesPerTopic;
+
+    // Location-scoped topics are open-ended, so the least recently written topics are forgotten
+    @Value("${${websocket.prefix}.replay.max-topics:1000}")
+    private int maxTopics;
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    // destination -> recent frames, least recently written first; guarded by this
+    private final LinkedHashMap<String, Topic> topics = new LinkedHashMap<>(16, 0.75f, true);
+    private long lastSeq;
+    // Highest sequence of any topic that was forgotten entirely
+    private long forgottenThrough;
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Assign the next sequence number to a frame about to be sent and keep it for replay
+     */
+    public synchronized long record(String destination, List<Object> events) {
+        long seq = ++lastSeq;
+        Topic topic = topics.computeIfAbsent(destination, d -> new Topic());
+        topic.frames.add(new Frame(destination, seq, events));
+        if (topic.frames.size() > framesPerTopic) {
+            topic.evictedThrough = topic.frames.poll().getSeq();
+        }
+        if (topics.size() > maxTopics) {
+            Map.Entry<String, Topic> eldest = topics.entrySet().iterator().next();
+            forgottenThrough = Math.max(forgottenThrough, eldest.getValue().frames.peekLast().getSeq());
+            topics.remove(eldest.getKey());
+        }
+        return seq;
+    }
+
+    /**
+     * Frames after sequence "since" on destinations matching any of the patterns (Ant-style, like the
+     * simple broker), oldest first and at most limit of them. resetRequired means some of the missed
+     * frames are no longer held, or the client's sequence is from a previous epoch, so it must reload.
+     */
+    public synchronized Map<String, Object> replay(Collection<String> destinationPatterns, long since,
+                                                   String clientEpoch, int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("epoch", epoch);
+        response.put("latestSeq", lastSeq);
+
+        boolean reset = (clientEpoch != null && !clientEpoch.equals(epoch)) || since > lastSeq || since < forgottenThrough;
+        List<Frame> missed = new ArrayList<>();
+        if (!reset) {
+            for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+                if (!matches(entry.getKey(), destinationPatterns)) {
+                    continue;
+                }
+                if (since < entry.getValue().evictedThrough) {
+                    reset = true;
+                    break;
+                }
+                for (Frame frame : entry.getValue().frames) {
+                    if (frame.getSeq() > since) {
+                        missed.add(frame);
+                    }
+                }
+            }
+        }
+        if (reset) {
+            missed.clear();
+        }
+        missed.sort(Comparator.comparingLong(Frame::getSeq));
+        boolean hasMore = missed.size() > limit;
+        response.put("frames", hasMore ? new ArrayList<>(missed.subList(0, limit)) : missed);
+        response.put("hasMore", hasMore);
+        response.put("resetRequired", reset);
+        return response;
+    }
+
+    private static boolean matches(String destination, Collection<String> patterns) {
+        for (String pattern : patterns) {
+            if (DESTINATION_MATCHER.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Topic {
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        // Sequence of the newest frame dropped from this topic's buffer
+        private long evictedThrough;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Frame {
+        private final String destination;
+        private final long seq;
+        private final List<Object> events;
+    }
+}
@@ -0,0 +1,139 @@
+package com.auto.websocket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queues STOMP events and sends them from a dedicated sender thread, so request threads never pay
+ * for serialization or broker dispatch. Pending events form one queue across all destinations and
+ * go out in the order they were published: every flush sends one frame, a JSON array of payloads,
+ * per run of consecutive events for the same destination, so a post-accepted never overtakes the
+ * new-post it follows. A newer event with the same key for the same destination replaces the
+ * pending one and takes its place in the queue, so a burst of updates to one post goes out once.
+ * Each frame carries a sequence number and is kept in the EventReplayBuffer for clients that reconnect.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompEventBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+    private final EventReplayBuffer replayBuffer;
+
+    @Value("${websocket.prefix}")
+    private String prefix;
+
+    @Value("${${websocket.prefix}.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    // Flush early once this many events are pending, so a burst is sent in bounded frames
+    @Value("${${websocket.prefix}.max-pending:1000}")
+    private int maxPending;
+
+    private final Object lock = new Object();
+    // (destination, key) -> payload, in publish order; guarded by lock
+    private LinkedHashMap<PendingKey, Object> pending = new LinkedHashMap<>();
+
+    private ScheduledExecutorService sender;
+
+    @PostConstruct
+    public void start() {
+        sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, prefix.replace('.', '-') + "-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sender.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a payload for destination, replacing a pending one with the same key
+     */
+    public void publish(String destination, Object key, Object payload) {
+        PendingKey pendingKey = new PendingKey(destination, key);
+        boolean flushNow;
+        synchronized (lock) {
+            // Remove first so the replacement moves to the back of the queue
+            if (pending.remove(pendingKey) != null) {
+                meterRegistry.counter(prefix + ".events.coalesced").increment();
+            }
+            pending.put(pendingKey, payload);
+            flushNow = pending.size() == maxPending;
+        }
+        if (flushNow) {
+            sender.execute(this::flush);
+        }
+    }
+
+    void flush() {
+        LinkedHashMap<PendingKey, Object> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        Iterator<Map.Entry<PendingKey, Object>> queue = batch.entrySet().iterator();
+        Map.Entry<PendingKey, Object> next = queue.next();
+        while (next != null) {
+            String destination = next.getKey().getDestination();
+            List<Object> events = new ArrayList<>();
+            do {
+                events.add(next.getValue());
+                next = queue.hasNext() ? queue.next() : null;
+            } while (next != null && next.getKey().getDestination().equals(destination));
+            send(destination, events);
+        }
+    }
+
+    private void send(String destination, List<Object> events) {
+        try {
+            long seq = replayBuffer.record(destination, events);
+            messagingTemplate.convertAndSend(destination, events, Map.<String, Object>of(
+                    EventReplayBuffer.SEQ_HEADER, seq, EventReplayBuffer.EPOCH_HEADER, replayBuffer.getEpoch()));
+            meterRegistry.counter(prefix + ".frames.sent").increment();
+        } catch (Exception e) {
+            log.error("❌ Failed to send {} events to {}: {}", events.size(), destination, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdown();
+        try {
+            sender.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class PendingKey {
+        private final String destination;
+        private final Object key;
+    }
+}
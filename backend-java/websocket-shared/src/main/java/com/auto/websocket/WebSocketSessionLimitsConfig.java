@@ -0,0 +1,67 @@
+package com.auto.websocket;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Takes the place of @EnableWebSocketMessageBroker (WebSocketConfig still supplies the endpoints and
+ * broker) so every STOMP session gets bounded outbound buffering: a client on a poor connection can
+ * only hold send-buffer-size-limit bytes of heap before it loses its oldest messages or is disconnected.
+ *
+ * Shared by the postings and technician services, which component-scan this package from their
+ * WebSocketConfig. Every class here reads its settings and names its metrics under websocket.prefix
+ * (postings.ws or technician.ws), so each service keeps its own property and metric names.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketSessionLimitsConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+
+    // Property and metric prefix of the service, e.g. postings.ws
+    @Value("${websocket.prefix}")
+    private String prefix;
+
+    // Per-session bytes queued behind a slow client
+    @Value("${${websocket.prefix}.session.send-buffer-size-limit:65536}")
+    private int sendBufferSizeLimit;
+
+    // A single send blocked longer than this closes the session
+    @Value("${${websocket.prefix}.session.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    // Largest inbound STOMP frame accepted from a client
+    @Value("${${websocket.prefix}.session.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // drop-oldest or disconnect, applied when a session's buffer is full
+    @Value("${${websocket.prefix}.session.overflow-policy:drop-oldest}")
+    private String overflowPolicy;
+
+    @Override
+    protected void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        super.configureWebSocketTransport(registry);
+        registry.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        BoundedSendSessionDecorator.OverflowPolicy policy =
+                BoundedSendSessionDecorator.OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase().replace('-', '_'));
+        return new BackpressureWebSocketHandler(clientInboundChannel, clientOutboundChannel, policy, meterRegistry, prefix);
+    }
+}
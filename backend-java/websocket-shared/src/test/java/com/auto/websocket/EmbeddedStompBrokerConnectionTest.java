@@ -0,0 +1,100 @@
+package com.auto.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Connection handling of the embedded broker over a raw socket: credentials, heart-beat
+ * negotiation and closing connections that go silent.
+ */
+class EmbeddedStompBrokerConnectionTest {
+
+    private static final long HEARTBEAT_MS = 100;
+
+    private EmbeddedStompBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new EmbeddedStompBroker("test.ws", "127.0.0.1", 0, "relay", "secret", 100, HEARTBEAT_MS, 65536);
+        broker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    void refusesToStartWithoutCredentials() {
+        EmbeddedStompBroker unconfigured = new EmbeddedStompBroker("test.ws", "127.0.0.1", 0, "", "", 100, HEARTBEAT_MS, 65536);
+        assertThrows(IllegalStateException.class, unconfigured::start);
+    }
+
+    @Test
+    void rejectsWrongCredentials() throws IOException {
+        try (Socket socket = connect("relay", "guest", "0,0")) {
+            assertTrue(readFrame(socket.getInputStream()).startsWith("ERROR"));
+            assertEquals(-1, socket.getInputStream().read(), "connection should be closed after ERROR");
+        }
+    }
+
+    @Test
+    void sendsNegotiatedHeartbeats() throws IOException {
+        try (Socket socket = connect("relay", "secret", "0,50")) {
+            String connected = readFrame(socket.getInputStream());
+            assertTrue(connected.startsWith("CONNECTED"));
+            assertTrue(connected.contains("heart-beat:" + HEARTBEAT_MS + "," + HEARTBEAT_MS), connected);
+
+            // Larger of the broker's 100 ms and the client's 50 ms
+            assertEquals('\n', socket.getInputStream().read());
+            assertEquals('\n', socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void closesConnectionThatStopsSendingHeartbeats() throws IOException {
+        try (Socket socket = connect("relay", "secret", "50,0")) {
+            assertTrue(readFrame(socket.getInputStream()).startsWith("CONNECTED"));
+
+            // Nothing sent after CONNECT: closed after three missed 100 ms periods
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    private Socket connect(String login, String passcode, String heartbeat) throws IOException {
+        Socket socket = new Socket("127.0.0.1", broker.getPort());
+        socket.setSoTimeout(2_000);
+        String frame = "CONNECT\naccept-version:1.2\nhost:localhost\nlogin:" + login + "\npasscode:" + passcode
+                + "\nheart-beat:" + heartbeat + "\n\n\0";
+        socket.getOutputStream().write(frame.getBytes(StandardCharsets.UTF_8));
+        socket.getOutputStream().flush();
+        return socket;
+    }
+
+    private static String readFrame(InputStream in) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        try {
+            for (int b = in.read(); b != 0; b = in.read()) {
+                if (b == -1) {
+                    break;
+                }
+                frame.write(b);
+            }
+        } catch (SocketTimeoutException e) {
+            // Return what arrived
+        }
+        return frame.toString(StandardCharsets.UTF_8);
+    }
+}
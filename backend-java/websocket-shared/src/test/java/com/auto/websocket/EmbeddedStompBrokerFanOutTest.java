@@ -0,0 +1,160 @@
+package com.auto.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Two service instances, each with its own broker relay, share one embedded broker: a client
+ * connected to either instance receives the events the other instance publishes, with the seq and
+ * epoch headers intact.
+ */
+class EmbeddedStompBrokerFanOutTest {
+
+    private EmbeddedStompBroker broker;
+    private Instance first;
+    private Instance second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new EmbeddedStompBroker("test.ws", "localhost", 0, "guest", "guest", 100, 10_000, 65536);
+        broker.start();
+        first = new Instance(broker.getPort());
+        second = new Instance(broker.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.stop();
+        second.stop();
+        broker.stop();
+    }
+
+    @Test
+    void eventsReachClientsOfEveryInstance() throws Exception {
+        first.subscribe("client-a", "/topic/new-post/**");
+        second.subscribe("client-b", "/topic/new-post/**");
+
+        second.publish("/topic/new-post/Dallas", List.of(Map.of("id", 7)), 1, "epoch-second");
+        first.publish("/topic/new-post/Austin", List.of(Map.of("id", 8)), 1, "epoch-first");
+
+        assertMessage(first.nextMessage(), "/topic/new-post/Dallas", "[{\"id\":7}]", "epoch-second");
+        assertMessage(first.nextMessage(), "/topic/new-post/Austin", "[{\"id\":8}]", "epoch-first");
+        assertMessage(second.nextMessage(), "/topic/new-post/Dallas", "[{\"id\":7}]", "epoch-second");
+        assertMessage(second.nextMessage(), "/topic/new-post/Austin", "[{\"id\":8}]", "epoch-first");
+    }
+
+    @Test
+    void onlyMatchingSubscriptionsReceive() throws Exception {
+        first.subscribe("client-a", "/topic/post-accepted");
+
+        second.publish("/topic/new-post/Dallas", List.of(Map.of("id", 7)), 1, "epoch-second");
+        second.publish("/topic/post-accepted", List.of(7), 2, "epoch-second");
+
+        assertMessage(first.nextMessage(), "/topic/post-accepted", "[7]", "epoch-second");
+        assertNull(first.messages.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static void assertMessage(Message<?> message, String destination, String payload, String epoch) {
+        assertNotNull(message, "expected a MESSAGE frame");
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(message);
+        assertEquals(destination, headers.getDestination());
+        assertEquals(payload, new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+        assertEquals(epoch, headers.getFirstNativeHeader(EventReplayBuffer.EPOCH_HEADER));
+        assertNotNull(headers.getFirstNativeHeader(EventReplayBuffer.SEQ_HEADER));
+    }
+
+    /**
+     * The broker side of one service instance: its relay handler and the channels around it
+     */
+    private static class Instance {
+
+        private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final StompBrokerRelayMessageHandler relay;
+        private final SimpMessagingTemplate template;
+
+        private final BlockingQueue<Message<?>> frames = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Message<?>> messages = new LinkedBlockingQueue<>();
+
+        Instance(int brokerPort) throws InterruptedException {
+            clientOutbound.subscribe(message -> {
+                StompCommand command = StompHeaderAccessor.wrap(message).getCommand();
+                (command == StompCommand.MESSAGE ? messages : frames).add(message);
+            });
+            relay = new StompBrokerRelayMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+            relay.setRelayHost("localhost");
+            relay.setRelayPort(brokerPort);
+            relay.start();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(relay.isBrokerAvailable(), "relay did not connect to the embedded broker");
+            template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+        }
+
+        /**
+         * Connect a WebSocket client session and subscribe it, waiting until the broker confirms
+         */
+        void subscribe(String sessionId, String destination) throws InterruptedException {
+            StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setAcceptVersion("1.2");
+            connect.setHeartbeat(0, 0);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            assertEquals(StompCommand.CONNECTED, nextFrame());
+
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId("sub-0");
+            subscribe.setDestination(destination);
+            subscribe.setReceipt("subscribed");
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+            assertEquals(StompCommand.RECEIPT, nextFrame());
+        }
+
+        /**
+         * Send the way StompEventBroadcaster does
+         */
+        void publish(String destination, Object events, long seq, String epoch) {
+            template.convertAndSend(destination, events, Map.<String, Object>of(
+                    EventReplayBuffer.SEQ_HEADER, seq, EventReplayBuffer.EPOCH_HEADER, epoch));
+        }
+
+        Message<?> nextMessage() throws InterruptedException {
+            return messages.poll(5, TimeUnit.SECONDS);
+        }
+
+        private StompCommand nextFrame() throws InterruptedException {
+            Message<?> frame = frames.poll(5, TimeUnit.SECONDS);
+            return frame == null ? null : StompHeaderAccessor.wrap(frame).getCommand();
+        }
+
+        void stop() {
+            relay.stop();
+        }
+    }
+}
@@ -122,6 +122,11 @@ fi
 cd ../..
 
 echo "Testing Java services compilation..."
+echo "Installing websocket-shared..."
+if ! (cd backend-java/websocket-shared && ./mvnw clean install -q -DskipTests); then
+    echo "❌ websocket-shared install failed"
+    exit 1
+fi
 for service in gateway dealer postings tech-dashboard serviceregistry; do
     echo "Testing $service..."
     cd "backend-java/$service"
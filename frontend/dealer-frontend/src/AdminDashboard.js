@@ -624,6 +624,28 @@ function AdminDashboard() {
     }
   };
 
+  // Poll a bulk job (bulk status update / delete run in the background) until it finishes
+  const waitForBulkJob = async (jobId) => {
+    for (;;) {
+      const response = await api.get(
+        `${API_CONFIG.POSTS_BASE_URL}/admin/jobs/${jobId}`
+      );
+      const job = response.data && response.data.data;
+      if (!job || job.status === "COMPLETED" || job.status === "FAILED") {
+        return job;
+      }
+      await new Promise((resolve) => setTimeout(resolve, 1000));
+    }
+  };
+
+  const reportBulkJob = (job, label) => {
+    if (job && job.status === "COMPLETED") {
+      toast.success(`${label} completed: ${job.affected} of ${job.total} posts`);
+    } else {
+      toast.error(`${label} failed${job && job.error ? `: ${job.error}` : ""}`);
+    }
+  };
+
   // 2. Update post status
   const updatePostStatus = async (postId, newStatus, reason) => {
     try {
@@ -659,9 +681,11 @@ function AdminDashboard() {
         }
       );
       if (response.data && response.data.success) {
-        toast.success(`Bulk status update completed successfully`);
+        toast.info("Bulk status update started");
+        const job = await waitForBulkJob(response.data.jobId);
+        reportBulkJob(job, "Bulk status update");
         loadPosts();
-        return response.data;
+        return job;
       }
     } catch (error) {
       console.error("Error in bulk status update:", error);
@@ -712,27 +736,26 @@ function AdminDashboard() {
   // 6. Export posts data
   const exportPostsData = async (format = "csv", status, dateFrom, dateTo) => {
     try {
+      // The export is streamed as a CSV file rather than wrapped in JSON
       const response = await api.get(
         `${API_CONFIG.POSTS_BASE_URL}/admin/posts/export`,
         {
           params: { format, status, dateFrom, dateTo },
+          responseType: "blob",
         }
       );
-      if (response.data && response.data.success) {
-        // Handle CSV download
-        if (format === "csv" && response.data.data) {
-          const blob = new Blob([response.data.data], { type: "text/csv" });
-          const url = window.URL.createObjectURL(blob);
-          const a = document.createElement("a");
-          a.href = url;
-          a.download = `posts_export_${
-            new Date().toISOString().split("T")[0]
-          }.csv`;
-          a.click();
-          window.URL.revokeObjectURL(url);
-          toast.success("Posts exported successfully");
-        }
-        return response.data;
+      if (response.data) {
+        const blob = new Blob([response.data], { type: "text/csv" });
+        const url = window.URL.createObjectURL(blob);
+        const a = document.createElement("a");
+        a.href = url;
+        a.download = `posts_export_${
+          new Date().toISOString().split("T")[0]
+        }.csv`;
+        a.click();
+        window.URL.revokeObjectURL(url);
+        toast.success("Posts exported successfully");
+        return { success: true };
       }
     } catch (error) {
       console.error("Error exporting posts:", error);
@@ -1164,12 +1187,13 @@ function AdminDashboard() {
       const postIds = selectedPosts.map((p) => p.id);
 
       if (bulkAction === "delete") {
-        await api.post(`${API_CONFIG.POSTS_BASE_URL}/admin/posts/bulk-delete`, {
+        const response = await api.post(`${API_CONFIG.POSTS_BASE_URL}/admin/posts/bulk-delete`, {
           postIds,
           reason: bulkReason || "Bulk deleted by admin",
           adminEmail: admin.email,
         });
-        toast.success(`Bulk delete completed successfully`);
+        toast.info("Bulk delete started");
+        reportBulkJob(await waitForBulkJob(response.data.jobId), "Bulk delete");
       } else if (bulkAction === "status") {
         // This will be handled by a separate modal
         return;
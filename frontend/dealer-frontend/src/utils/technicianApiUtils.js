@@ -11,10 +11,18 @@ import { extendSession } from "./sessionTimeoutManager";
 
 // ==================== FEED MANAGEMENT ====================
 
+// Last feed received and its ETag; sent back as If-None-Match so an unchanged feed costs a 304
+let feedCache = { email: null, eTag: null, posts: null };
+
+export const clearTechnicianFeedCache = () => {
+  feedCache = { email: null, eTag: null, posts: null };
+};
+
 /**
  * Get technician feed (location-based posts)
  * ✅ BACKEND ENDPOINT: /technician-feed (POST) - Get filtered feed by location
  * ✅ NO FALLBACK: Only use backend filtered data, no client-side filtering
+ * ✅ 304 Not Modified reuses the cached feed for the same technician
  */
 export const getTechnicianFeed = async (technicianEmail = null) => {
   try {
@@ -36,17 +44,36 @@ export const getTechnicianFeed = async (technicianEmail = null) => {
 
     console.log("Getting filtered feed for:", technicianEmail);
 
+    const cached = feedCache.email === technicianEmail && feedCache.eTag ? feedCache : null;
     const response = await api.post(
       `${API_CONFIG.TECHNICIAN_BASE_URL}/technician-feed`,
       {
         email: technicianEmail,
+      },
+      {
+        headers: cached ? { "If-None-Match": cached.eTag } : {},
+        // 304 is the "use your cached feed" answer, not an error
+        validateStatus: (status) => (status >= 200 && status < 300) || status === 304,
       }
     );
 
+    if (response.status === 304 && cached) {
+      console.log("✅ Technician feed not modified, using cached posts:", cached.posts.length);
+      return {
+        success: true,
+        posts: cached.posts,
+        count: cached.posts.length,
+        message: `Retrieved ${cached.posts.length} filtered posts successfully`,
+        notModified: true,
+      };
+    }
+
     if (response.data && Array.isArray(response.data)) {
       const posts = response.data;
       const count = posts.length;
       console.log("✅ Backend filtered feed successful, posts count:", count);
+      const eTag = response.headers?.etag;
+      feedCache = eTag ? { email: technicianEmail, eTag, posts } : { email: null, eTag: null, posts: null };
 
       return {
         success: true,
@@ -0,0 +1,43 @@
+import api from "../api";
+import { clearTechnicianFeedCache, getTechnicianFeed } from "./technicianApiUtils";
+
+jest.mock("../api", () => ({
+  __esModule: true,
+  default: { post: jest.fn() },
+  API_CONFIG: { TECHNICIAN_BASE_URL: "/api/technicians" },
+}));
+jest.mock("./sessionTimeoutManager", () => ({ extendSession: jest.fn() }));
+jest.mock("./sessionManager", () => ({ getTechnicianData: jest.fn() }));
+jest.mock("react-toastify", () => ({ toast: {} }));
+
+const posts = [{ id: 1 }, { id: 2 }];
+
+beforeEach(() => {
+  clearTechnicianFeedCache();
+  api.post.mockReset();
+});
+
+test("sends the stored ETag and reuses the cached feed on 304", async () => {
+  api.post.mockResolvedValueOnce({ status: 200, data: posts, headers: { etag: '"v1"' } });
+  await getTechnicianFeed("tech@example.com");
+
+  api.post.mockResolvedValueOnce({ status: 304, data: "", headers: { etag: '"v1"' } });
+  const result = await getTechnicianFeed("tech@example.com");
+
+  const config = api.post.mock.calls[1][2];
+  expect(config.headers["If-None-Match"]).toBe('"v1"');
+  expect(config.validateStatus(304)).toBe(true);
+  expect(result.success).toBe(true);
+  expect(result.notModified).toBe(true);
+  expect(result.posts).toEqual(posts);
+});
+
+test("does not send the ETag of another technician's feed", async () => {
+  api.post.mockResolvedValueOnce({ status: 200, data: posts, headers: { etag: '"v1"' } });
+  await getTechnicianFeed("tech@example.com");
+
+  api.post.mockResolvedValueOnce({ status: 200, data: [], headers: { etag: '"v2"' } });
+  await getTechnicianFeed("other@example.com");
+
+  expect(api.post.mock.calls[1][2].headers["If-None-Match"]).toBeUndefined();
+});
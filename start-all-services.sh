@@ -2,6 +2,10 @@
 
 echo "🚀 Starting all services..."
 
+echo "Installing shared WebSocket module..."
+cd /Users/bhanuprasadkommula/Downloads/Inspectioproject/Backend/websocket-shared
+./mvnw -q install -DskipTests
+
 echo "Starting Service Registry..."
 cd /Users/bhanuprasadkommula/Downloads/Inspectioproject/Backend/serviceregistry
 ./mvnw spring-boot:run > serviceregistry.log 2>&1 &